@@ -71,6 +71,7 @@ public class SmartyDecrypter implements TelegramParser {
     private final ByteBuffer cipherText = ByteBuffer.allocate(MESSAGES_BUFFER_SIZE);
     private final TelegramParser parser;
     private @Nullable final SecretKeySpec secretKeySpec;
+    private @Nullable Cipher cipher;
 
     private State state = State.WAITING_FOR_START_BYTE;
     private int currentBytePosition;
@@ -211,7 +212,8 @@ public class SmartyDecrypter implements TelegramParser {
     private byte @Nullable [] decrypt() {
         try {
             if (secretKeySpec != null) {
-                final Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                final Cipher cipher = getCipher();
+                // Each telegram has its own IV, therefore the cipher is initialized for every telegram
                 cipher.init(Cipher.DECRYPT_MODE, secretKeySpec,
                         new GCMParameterSpec(GCM_BITS, iv.array(), 0, ivLength));
                 cipher.updateAAD(addKey);
@@ -232,6 +234,20 @@ public class SmartyDecrypter implements TelegramParser {
         return null;
     }
 
+    /**
+     * Returns the cipher, which is only created once as creating it involves a provider lookup.
+     *
+     * @return the cipher
+     */
+    private Cipher getCipher() throws NoSuchAlgorithmException, NoSuchPaddingException {
+        Cipher localCipher = cipher;
+        if (localCipher == null) {
+            localCipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher = localCipher;
+        }
+        return localCipher;
+    }
+
     @Override
     public void reset() {
         parser.reset();
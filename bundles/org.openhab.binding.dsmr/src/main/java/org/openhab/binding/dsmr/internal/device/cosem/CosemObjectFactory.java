@@ -30,6 +30,8 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class CosemObjectFactory {
+    private static final int MAX_CACHED_OBIS_LOOKUPS = 256;
+
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
@@ -42,6 +44,21 @@ public class CosemObjectFactory {
      */
     private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
 
+    /**
+     * Lookup cache for received OBIS identifier strings, so each identifier is only parsed and looked up once
+     */
+    private final Map<String, ObisLookup> obisLookupCache = new HashMap<>();
+
+    /**
+     * Result of looking up an OBIS identifier string.
+     *
+     * @param obisId the parsed OBIS identifier or null if the string is not a valid OBIS identifier
+     * @param objectTypes the candidate Cosem Object types in the order they must be tried
+     * @param fixed true if the first candidate is the only one, also if its values can't be parsed
+     */
+    private record ObisLookup(@Nullable OBISIdentifier obisId, List<CosemObjectType> objectTypes, boolean fixed) {
+    }
+
     /**
      * Creates a new CosemObjectFactory
      */
@@ -79,48 +96,64 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
-
-        try {
-            obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
-        } catch (final ParseException pe) {
+        ObisLookup lookup = obisLookupCache.get(obisIdString);
+        if (lookup == null) {
+            lookup = lookupObisIdentifier(obisIdString);
+            if (obisLookupCache.size() >= MAX_CACHED_OBIS_LOOKUPS) {
+                // only reached when corrupt data is received, a meter only sends a limited set of identifiers
+                obisLookupCache.clear();
+            }
+            obisLookupCache.put(obisIdString, lookup);
+        }
+        final OBISIdentifier obisId = lookup.obisId();
+        if (obisId == null) {
             logger.debug("Received invalid OBIS identifier: {}", obisIdString);
             return null;
         }
 
         logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
 
-        CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
-        if (objectType != null) {
-            logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
-        }
-
-        List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
-        if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
-                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
-                if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-                    return cosemObject;
-                }
+        for (CosemObjectType objectType : lookup.objectTypes()) {
+            CosemObject cosemObject = getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            if (cosemObject != null || lookup.fixed()) {
+                return cosemObject;
             }
         }
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
-        if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
-        }
-
         logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
 
         return null;
     }
 
+    /**
+     * Parses the OBIS identifier string and looks up the Cosem Object types that can match it.
+     *
+     * @param obisIdString String containing the OBIS message identifier
+     * @return the lookup result
+     */
+    private ObisLookup lookupObisIdentifier(String obisIdString) {
+        try {
+            OBISIdentifier obisId = new OBISIdentifier(obisIdString);
+            OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
+
+            CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
+            if (objectType != null) {
+                logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
+                return new ObisLookup(obisId, List.of(objectType), true);
+            }
+
+            List<CosemObjectType> objectTypes = new ArrayList<>(
+                    obisLookupTableMultipleFixed.getOrDefault(reducedObisId, List.of()));
+            objectType = obisLookupTableFixed.get(obisId.getReducedOBISIdentifierGroupE());
+            if (objectType != null) {
+                objectTypes.add(objectType);
+            }
+            return new ObisLookup(obisId, objectTypes, false);
+        } catch (final ParseException pe) {
+            return new ObisLookup(null, List.of(), false);
+        }
+    }
+
     /**
      * Constructs a CosemObject from the given type, OBISIdentifier and the values
      *
@@ -19,9 +19,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObject;
 import org.openhab.binding.dsmr.internal.device.cosem.CosemObjectFactory;
@@ -61,9 +61,25 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Length of the CRC-code, 4 hexadecimal characters
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
+
+    /**
+     * An OBIS identifier with its values as received, and the Cosem Object constructed from them. Lines equal to the
+     * same line of the previous telegram are reused, so their Cosem Object isn't constructed again.
+     */
+    private static class CosemLine {
+        private final String obisId;
+        private final String obisValue;
+        private boolean resolved;
+        private @Nullable CosemObject cosemObject;
+
+        CosemLine(final String obisId, final String obisValue) {
+            this.obisId = obisId;
+            this.obisValue = obisValue;
+        }
+    }
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -117,7 +133,12 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * Received Cosem Objects in the P1Telegram that is currently received
      */
-    private final List<Entry<String, String>> cosemObjects = new ArrayList<>();
+    private List<CosemLine> cosemObjects = new ArrayList<>();
+
+    /**
+     * Cosem Objects of the last successfully received P1Telegram
+     */
+    private List<CosemLine> previousCosemObjects = new ArrayList<>();
 
     /**
      * List of Cosem Object values that are not known to this binding.
@@ -280,8 +301,9 @@ public class P1TelegramParser implements TelegramParser {
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        final int crcP1Telegram = parseCRC(crcValue);
+
+        if (crcP1Telegram >= 0) {
             final int calculatedCRC = crc.getCurrentCRCCode();
 
             if (logger.isDebugEnabled()) {
@@ -305,6 +327,29 @@ public class P1TelegramParser implements TelegramParser {
         return telegramState;
     }
 
+    /**
+     * Parses the CRC-code, which must consist of 4 hexadecimal characters in upper case.
+     *
+     * @param value the received CRC-code
+     * @return the CRC value or -1 if the CRC-code is invalid
+     */
+    private static int parseCRC(final CharSequence value) {
+        if (value.length() != CRC_LENGTH) {
+            return -1;
+        }
+        int result = 0;
+        for (int i = 0; i < CRC_LENGTH; i++) {
+            final char c = value.charAt(i);
+            final int digit = Character.digit(c, 16);
+
+            if (digit < 0 || Character.isLowerCase(c)) {
+                return -1;
+            }
+            result = (result << 4) | digit;
+        }
+        return result;
+    }
+
     private void processTelegram() {
         telegramState.ifPresentOrElse(error -> telegramListener.onError(error, ""),
                 () -> telegramListener.telegramReceived(constructTelegram()));
@@ -313,23 +358,32 @@ public class P1TelegramParser implements TelegramParser {
     private P1Telegram constructTelegram() {
         final List<CosemObject> cosemObjectsCopy = new ArrayList<>();
 
-        cosemObjects.stream().forEach(e -> addCosemObject(cosemObjectsCopy, e));
+        cosemObjects.forEach(line -> addCosemObject(cosemObjectsCopy, line));
+        final P1Telegram telegram;
         if (lenientMode) {
-            return new P1Telegram(cosemObjectsCopy, rawData.toString(),
+            telegram = new P1Telegram(cosemObjectsCopy, rawData.toString(),
                     unknownCosemObjects.isEmpty() ? Collections.emptyList() : new ArrayList<>(unknownCosemObjects));
         } else {
-            return new P1Telegram(cosemObjectsCopy);
+            telegram = new P1Telegram(cosemObjectsCopy);
         }
+        // This telegram is the reference for the next one, the list of the previous telegram is reused
+        final List<CosemLine> lines = previousCosemObjects;
+        previousCosemObjects = cosemObjects;
+        cosemObjects = lines;
+        cosemObjects.clear();
+        return telegram;
     }
 
-    private void addCosemObject(final List<CosemObject> objects, final Entry<String, String> cosemEntry) {
-        final String obisIdString = cosemEntry.getKey();
-        final String obisValueString = cosemEntry.getValue();
-        final CosemObject cosemObject = factory.getCosemObject(obisIdString, obisValueString);
+    private void addCosemObject(final List<CosemObject> objects, final CosemLine line) {
+        if (!line.resolved) {
+            line.cosemObject = factory.getCosemObject(line.obisId, line.obisValue);
+            line.resolved = true;
+        }
+        final CosemObject cosemObject = line.cosemObject;
 
         if (cosemObject == null) {
             if (lenientMode) {
-                unknownCosemObjects.add(new SimpleEntry<>(obisIdString, obisValueString));
+                unknownCosemObjects.add(new SimpleEntry<>(line.obisId, line.obisValue));
             }
         } else {
             logger.trace("Adding {} to list of Cosem Objects", cosemObject);
@@ -419,13 +473,20 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Store the current CosemObject in the list of received cosem Objects
+     * Store the current CosemObject in the list of received cosem Objects. If the same line of the previous telegram
+     * was received with the same values, that line is reused.
      */
     private void storeCurrentCosemObject() {
-        final String obisIdString = obisId.toString();
+        if (obisId.length() > 0) {
+            final int index = cosemObjects.size();
+            final CosemLine previous = index < previousCosemObjects.size() ? previousCosemObjects.get(index) : null;
 
-        if (!obisIdString.isEmpty()) {
-            cosemObjects.add(new SimpleEntry<>(obisIdString, obisValue.toString()));
+            if (previous != null && previous.obisId.contentEquals(obisId)
+                    && previous.obisValue.contentEquals(obisValue)) {
+                cosemObjects.add(previous);
+            } else {
+                cosemObjects.add(new CosemLine(obisId.toString(), obisValue.toString()));
+            }
         }
         clearObisData();
     }
@@ -14,7 +14,9 @@ package org.openhab.binding.dsmr.internal.handler;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -64,6 +66,11 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
      */
     private List<CosemObject> lastReceivedValues = Collections.emptyList();
 
+    /**
+     * Last state set per channel, used to only update channels of which the value changed.
+     */
+    private final Map<String, State> lastChannelStates = new ConcurrentHashMap<>();
+
     /**
      * Reference to the meter watchdog.
      */
@@ -89,6 +96,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
     @Override
     public void handleCommand(final ChannelUID channelUID, final Command command) {
         if (command == RefreshType.REFRESH) {
+            lastChannelStates.clear();
             updateState();
         }
     }
@@ -117,6 +125,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
         channel = meterType.meterKind.isChannelRelevant() ? meterConfig.channel : DSMRMeterConstants.UNKNOWN_CHANNEL;
         final DSMRMeterDescriptor meterDescriptor = new DSMRMeterDescriptor(meterType, channel);
         meter = new DSMRMeter(meterDescriptor);
+        lastChannelStates.clear();
         meterWatchdog = scheduler.scheduleWithFixedDelay(this::updateState, meterConfig.refresh, meterConfig.refresh,
                 TimeUnit.SECONDS);
         updateStatus(ThingStatus.UNKNOWN);
@@ -131,9 +140,9 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
     }
 
     /**
-     * Updates the state of all channels from the last received Cosem values from the meter. The lastReceivedValues are
-     * cleared after processing here so when it does contain values the next time this method is called and it contains
-     * values those are new values.
+     * Updates the state of the channels from the last received Cosem values from the meter. Only channels of which the
+     * value changed since the last update are updated. The lastReceivedValues are cleared after processing here so
+     * when it does contain values the next time this method is called and it contains values those are new values.
      */
     private synchronized void updateState() {
         logger.trace("Update state for device: {}", getThing().getThingTypeUID().getId());
@@ -145,8 +154,10 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
                             + (entry.getKey().isEmpty() ? "" : "_" + entry.getKey());
 
                     final State newState = entry.getValue();
-                    logger.debug("Updating state for channel {} to value {}", channel, newState);
-                    updateState(channel, newState);
+                    if (!newState.equals(lastChannelStates.put(channel, newState))) {
+                        logger.debug("Updating state for channel {} to value {}", channel, newState);
+                        updateState(channel, newState);
+                    }
                 }
             }
             if (ThingHandlerHelper.isHandlerInitialized(getThing()) && getThing().getStatus() != ThingStatus.ONLINE) {
@@ -218,6 +229,7 @@ public class DSMRMeterHandler extends BaseThingHandler implements P1TelegramList
      */
     private void setDeviceOffline(final ThingStatusDetail status, @Nullable final String details) {
         updateStatus(ThingStatus.OFFLINE, status, details);
+        lastChannelStates.clear();
         getThing().getChannels().forEach(c -> updateState(c.getUID(), UnDefType.NULL));
     }
 }
@@ -13,14 +13,18 @@
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil.P1TelegramListenerImpl;
 
 /**
  * Test class for {@link P1TelegramParser}.
@@ -61,4 +65,25 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    @Test
+    public void testUnchangedCosemObjectsAreReused() {
+        final byte[] data = TelegramReaderUtil.readRawTelegram("dsmr_50");
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener, true);
+
+        parser.setLenientMode(true);
+        parser.parse(data, data.length);
+        final P1Telegram first = listener.telegram;
+        parser.parse(data, data.length);
+        final P1Telegram second = listener.telegram;
+
+        assertNotNull(first);
+        assertNotNull(second);
+        assertEquals(first.getCosemObjects().size(), second.getCosemObjects().size(), "Expected same telegram");
+        for (int i = 0; i < first.getCosemObjects().size(); i++) {
+            assertSame(first.getCosemObjects().get(i), second.getCosemObjects().get(i),
+                    "Unchanged cosem object should be reused");
+        }
+    }
 }
@@ -13,9 +13,7 @@
 package org.openhab.binding.enocean.internal.transceiver;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.Arrays;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -54,140 +52,137 @@ public class EnOceanESP3Transceiver extends EnOceanTransceiver {
     byte packetType = -1;
 
     @Override
-    protected void processMessage(byte firstByte) {
-        byte[] readingBuffer = new byte[ENOCEAN_MAX_DATA];
-        int bytesRead = -1;
-        byte byteBuffer;
-
-        try {
-            readingBuffer[0] = firstByte;
-            InputStream localInPutStream = this.inputStream;
-            if (localInPutStream == null) {
-                throw new IOException("could not read from inputstream");
+    protected void processMessage(byte[] buffer, int length) {
+        int p = 0;
+        while (p < length) {
+            switch (state) {
+                case WaitingForSyncByte:
+                    while (p < length && buffer[p] != ESP3Packet.ESP3_SYNC_BYTE) {
+                        p++;
+                    }
+                    if (p < length) {
+                        p++;
+                        state = ReadingState.ReadingHeader;
+                        logger.trace("Received Sync Byte");
+                    }
+                    break;
+                case ReadingHeader:
+                    if (currentPosition == ESP3Packet.ESP3_HEADER_LENGTH) {
+                        processHeaderCRC(buffer[p++]);
+                    } else {
+                        p += copyToDataBuffer(buffer, p, length, ESP3Packet.ESP3_HEADER_LENGTH);
+                    }
+                    break;
+                case ReadingData:
+                    if (currentPosition == dataLength + optionalLength) {
+                        processDataCRC(buffer[p++]);
+                    } else {
+                        p += copyToDataBuffer(buffer, p, length, dataLength + optionalLength);
+                    }
+                    break;
             }
-            bytesRead = localInPutStream.read(readingBuffer, 1, localInPutStream.available());
-            if (bytesRead == -1) {
-                throw new IOException("could not read from inputstream");
+        }
+    }
+
+    /**
+     * Copies as many received bytes as available and needed into the data buffer.
+     *
+     * @return the number of copied bytes
+     */
+    private int copyToDataBuffer(byte[] buffer, int offset, int length, int targetPosition) {
+        int count = Math.min(targetPosition - currentPosition, length - offset);
+        System.arraycopy(buffer, offset, dataBuffer, currentPosition, count);
+        currentPosition += count;
+        return count;
+    }
+
+    private void processHeaderCRC(byte crc8) {
+        if (ESP3Packet.checkCRC8(dataBuffer, 0, ESP3Packet.ESP3_HEADER_LENGTH, crc8)
+                && ((dataBuffer[0] & 0xFF) << 8) + (dataBuffer[1] & 0xFF) + (dataBuffer[2] & 0xFF) > 0) {
+            state = ReadingState.ReadingData;
+
+            dataLength = ((dataBuffer[0] & 0xFF) << 8) | (dataBuffer[1] & 0xFF);
+            optionalLength = dataBuffer[2] & 0xFF;
+            packetType = dataBuffer[3];
+            currentPosition = 0;
+
+            if (packetType == 3) {
+                logger.trace("Received sub_msg");
             }
 
-            Future<?> localReadingTask = readingTask;
-            if (localReadingTask == null || localReadingTask.isCancelled()) {
-                return;
+            logger.trace(">> Received header, data length {} optional length {} packet type {}", dataLength,
+                    optionalLength, packetType);
+        } else {
+            // check if we find a sync byte in current buffer
+            int copyFrom = -1;
+            for (int i = 0; i < ESP3Packet.ESP3_HEADER_LENGTH; i++) {
+                if (dataBuffer[i] == ESP3Packet.ESP3_SYNC_BYTE) {
+                    copyFrom = i + 1;
+                    break;
+                }
             }
 
-            bytesRead++;
-            for (int p = 0; p < bytesRead; p++) {
-                byteBuffer = readingBuffer[p];
+            if (copyFrom != -1) {
+                System.arraycopy(dataBuffer, copyFrom, dataBuffer, 0, ESP3Packet.ESP3_HEADER_LENGTH - copyFrom);
+                state = ReadingState.ReadingHeader;
+                currentPosition = ESP3Packet.ESP3_HEADER_LENGTH - copyFrom;
+                dataBuffer[currentPosition++] = crc8;
+            } else {
+                currentPosition = 0;
+                state = crc8 == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
+                        : ReadingState.WaitingForSyncByte;
+            }
+            logger.trace("CrC8 header check not successful");
+        }
+    }
 
-                switch (state) {
-                    case WaitingForSyncByte:
-                        if (byteBuffer == ESP3Packet.ESP3_SYNC_BYTE) {
-                            state = ReadingState.ReadingHeader;
-                            logger.trace("Received Sync Byte");
-                        }
-                        break;
-                    case ReadingHeader:
-                        if (currentPosition == ESP3Packet.ESP3_HEADER_LENGTH) {
-                            if (ESP3Packet.checkCRC8(dataBuffer, ESP3Packet.ESP3_HEADER_LENGTH, byteBuffer)
-                                    && ((dataBuffer[0] & 0xFF) << 8) + (dataBuffer[1] & 0xFF)
-                                            + (dataBuffer[2] & 0xFF) > 0) {
-                                state = ReadingState.ReadingData;
-
-                                dataLength = ((dataBuffer[0] & 0xFF << 8) | (dataBuffer[1] & 0xFF));
-                                optionalLength = dataBuffer[2] & 0xFF;
-                                packetType = dataBuffer[3];
-                                currentPosition = 0;
-
-                                if (packetType == 3) {
-                                    logger.trace("Received sub_msg");
-                                }
-
-                                logger.trace(">> Received header, data length {} optional length {} packet type {}",
-                                        dataLength, optionalLength, packetType);
-                            } else {
-                                // check if we find a sync byte in current buffer
-                                int copyFrom = -1;
-                                for (int i = 0; i < ESP3Packet.ESP3_HEADER_LENGTH; i++) {
-                                    if (dataBuffer[i] == ESP3Packet.ESP3_SYNC_BYTE) {
-                                        copyFrom = i + 1;
-                                        break;
-                                    }
-                                }
-
-                                if (copyFrom != -1) {
-                                    System.arraycopy(dataBuffer, copyFrom, dataBuffer, 0,
-                                            ESP3Packet.ESP3_HEADER_LENGTH - copyFrom);
-                                    state = ReadingState.ReadingHeader;
-                                    currentPosition = ESP3Packet.ESP3_HEADER_LENGTH - copyFrom;
-                                    dataBuffer[currentPosition++] = byteBuffer;
-                                } else {
-                                    currentPosition = 0;
-                                    state = byteBuffer == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
-                                            : ReadingState.WaitingForSyncByte;
-                                }
-                                logger.trace("CrC8 header check not successful");
-                            }
-                        } else {
-                            dataBuffer[currentPosition++] = byteBuffer;
-                        }
-                        break;
-                    case ReadingData:
-                        if (currentPosition == dataLength + optionalLength) {
-                            if (ESP3Packet.checkCRC8(dataBuffer, dataLength + optionalLength, byteBuffer)) {
-                                state = ReadingState.WaitingForSyncByte;
-                                BasePacket packet = ESP3PacketFactory.buildPacket(dataLength, optionalLength,
-                                        packetType, dataBuffer);
-
-                                if (packet != null) {
-                                    switch (packet.getPacketType()) {
-                                        case COMMON_COMMAND:
-                                            logger.debug("Common command: {}",
-                                                    HexUtils.bytesToHex(packet.getPayload()));
-                                            break;
-                                        case EVENT:
-                                        case RADIO_ERP1:
-                                            informListeners(packet);
-                                            break;
-                                        case RADIO_ERP2:
-                                            break;
-                                        case RADIO_MESSAGE:
-                                            break;
-                                        case RADIO_SUB_TEL:
-                                            break;
-                                        case REMOTE_MAN_COMMAND:
-                                            break;
-                                        case RESPONSE: {
-                                            Response response = (Response) packet;
-                                            logger.debug("{} with code {} payload {} received",
-                                                    packet.getPacketType().name(), response.getResponseType().name(),
-                                                    HexUtils.bytesToHex(packet.getPayload())); // Responses do not have
-                                                                                               // optional data
-                                            handleResponse(response);
-                                        }
-                                            break;
-                                        case SMART_ACK_COMMAND:
-                                            break;
-                                        default:
-                                            break;
-                                    }
-                                } else {
-                                    logger.trace("Unknown ESP3Packet: {}", HexUtils
-                                            .bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
-                                }
-                            } else {
-                                state = byteBuffer == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
-                                        : ReadingState.WaitingForSyncByte;
-                                logger.trace("ESP3Packet malformed: {}",
-                                        HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
-                            }
-
-                            currentPosition = 0;
-                            dataLength = optionalLength = packetType = -1;
-                        } else {
-                            dataBuffer[currentPosition++] = byteBuffer;
+    private void processDataCRC(byte crc8) {
+        try {
+            if (ESP3Packet.checkCRC8(dataBuffer, 0, dataLength + optionalLength, crc8)) {
+                state = ReadingState.WaitingForSyncByte;
+                receivedPackets.increment();
+                BasePacket packet = ESP3PacketFactory.buildPacket(dataLength, optionalLength, packetType, dataBuffer);
+
+                if (packet != null) {
+                    switch (packet.getPacketType()) {
+                        case COMMON_COMMAND:
+                            logger.debug("Common command: {}", HexUtils.bytesToHex(packet.getPayload()));
+                            break;
+                        case EVENT:
+                        case RADIO_ERP1:
+                            informListeners(packet);
+                            break;
+                        case RADIO_ERP2:
+                            break;
+                        case RADIO_MESSAGE:
+                            break;
+                        case RADIO_SUB_TEL:
+                            break;
+                        case REMOTE_MAN_COMMAND:
+                            break;
+                        case RESPONSE: {
+                            Response response = (Response) packet;
+                            // Responses do not have optional data
+                            logger.debug("{} with code {} payload {} received", packet.getPacketType().name(),
+                                    response.getResponseType().name(), HexUtils.bytesToHex(packet.getPayload()));
+                            handleResponse(response);
                         }
-                        break;
+                            break;
+                        case SMART_ACK_COMMAND:
+                            break;
+                        default:
+                            break;
+                    }
+                } else {
+                    logger.trace("Unknown ESP3Packet: {}",
+                            HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
                 }
+            } else {
+                state = crc8 == ESP3Packet.ESP3_SYNC_BYTE ? ReadingState.ReadingHeader
+                        : ReadingState.WaitingForSyncByte;
+                malformedPackets.increment();
+                logger.trace("ESP3Packet malformed: {}",
+                        HexUtils.bytesToHex(Arrays.copyOf(dataBuffer, dataLength + optionalLength)));
             }
         } catch (IOException ioexception) {
             logger.trace("Unable to process message", ioexception);
@@ -195,7 +190,9 @@ public class EnOceanESP3Transceiver extends EnOceanTransceiver {
             if (localListener != null) {
                 localListener.errorOccured(ioexception);
             }
-            return;
+        } finally {
+            currentPosition = 0;
+            dataLength = optionalLength = packetType = -1;
         }
     }
 
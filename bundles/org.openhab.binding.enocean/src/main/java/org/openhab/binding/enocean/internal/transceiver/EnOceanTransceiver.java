@@ -24,6 +24,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -65,6 +66,7 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
 
     private @Nullable SerialPortManager serialPortManager;
     private static final int ENOCEAN_DEFAULT_BAUD = 57600;
+    private static final int READ_BUFFER_SIZE = 1024;
     protected String path;
     private @Nullable SerialPort serialPort;
 
@@ -164,6 +166,11 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
     protected @Nullable OutputStream outputStream;
 
     private byte[] filteredDeviceId = new byte[0];
+
+    // Statistics of the received data
+    private final LongAdder receivedBytes = new LongAdder();
+    protected final LongAdder receivedPackets = new LongAdder();
+    protected final LongAdder malformedPackets = new LongAdder();
     @Nullable
     TransceiverErrorListener errorListener;
 
@@ -292,22 +299,45 @@ public abstract class EnOceanTransceiver implements SerialPortEventListener {
         outputStream = null;
         inputStream = null;
 
+        logger.debug("Transceiver received {} bytes, {} packets, {} malformed packets", getReceivedBytes(),
+                getReceivedPackets(), getMalformedPackets());
         logger.info("Transceiver shutdown");
     }
 
     private void receivePackets() {
-        byte[] buffer = new byte[1];
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
 
         Future<?> readingTask = this.readingTask;
         while (readingTask != null && !readingTask.isCancelled()) {
-            int bytesRead = read(buffer, 1);
+            // returns as soon as at least one byte is available, with all bytes available up to the buffer size
+            int bytesRead = read(buffer, buffer.length);
             if (bytesRead > 0) {
-                processMessage(buffer[0]);
+                receivedBytes.add(bytesRead);
+                processMessage(buffer, bytesRead);
             }
         }
     }
 
-    protected abstract void processMessage(byte firstByte);
+    /**
+     * Feeds received bytes into the packet decoder. The bytes do not need to be aligned with packet boundaries, a
+     * packet may span several calls and one call may complete several packets.
+     *
+     * @param buffer the buffer holding the received bytes
+     * @param length the number of received bytes at the start of the buffer
+     */
+    protected abstract void processMessage(byte[] buffer, int length);
+
+    public long getReceivedBytes() {
+        return receivedBytes.sum();
+    }
+
+    public long getReceivedPackets() {
+        return receivedPackets.sum();
+    }
+
+    public long getMalformedPackets() {
+        return malformedPackets.sum();
+    }
 
     protected int read(byte[] buffer, int length) {
         InputStream localInputStream = inputStream;
@@ -50,6 +50,7 @@ public class HomematicConfig {
     private int binCallbackPort;
 
     private int socketMaxAlive = 900;
+    private int connectionPoolSize = 3;
     private int timeout = 15;
     private int installModeDuration = DEFAULT_INSTALL_MODE_DURATION;
     private long discoveryTimeToLive = -1;
@@ -162,6 +163,20 @@ public class HomematicConfig {
         this.socketMaxAlive = socketMaxAlive;
     }
 
+    /**
+     * Returns the maximum number of parallel connections to each port of a Homematic gateway.
+     */
+    public int getConnectionPoolSize() {
+        return Math.max(1, connectionPoolSize);
+    }
+
+    /**
+     * Sets the maximum number of parallel connections to each port of a Homematic gateway.
+     */
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
     /**
      * Returns the timeout for the communication to a Homematic gateway in seconds.
      */
@@ -442,9 +457,9 @@ public class HomematicConfig {
         return String.format("""
                 %s[gatewayAddress=%s,callbackHost=%s,xmlCallbackPort=%d,binCallbackPort=%d,\
                 gatewayType=%s,rfPort=%d,wiredPort=%d,hmIpPort=%d,cuxdPort=%d,groupPort=%d,timeout=%d,\
-                discoveryTimeToLive=%d,installModeDuration=%d,socketMaxAlive=%d]\
+                discoveryTimeToLive=%d,installModeDuration=%d,socketMaxAlive=%d,connectionPoolSize=%d]\
                 """, getClass().getSimpleName(), gatewayAddress, callbackHost, xmlCallbackPort, binCallbackPort,
                 gatewayType, getRfPort(), getWiredPort(), getHmIpPort(), getCuxdPort(), getGroupPort(), timeout,
-                discoveryTimeToLive, installModeDuration, socketMaxAlive);
+                discoveryTimeToLive, installModeDuration, socketMaxAlive, connectionPoolSize);
     }
 }
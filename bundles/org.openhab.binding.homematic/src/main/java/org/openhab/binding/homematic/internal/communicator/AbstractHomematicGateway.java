@@ -12,10 +12,11 @@
  */
 package org.openhab.binding.homematic.internal.communicator;
 
-import static org.openhab.binding.homematic.internal.HomematicBindingConstants.GATEWAY_POOL_NAME;
+import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*;
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -26,6 +27,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +39,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.client.BinRpcClient;
+import org.openhab.binding.homematic.internal.communicator.client.ParamsetDescriptionCache;
 import org.openhab.binding.homematic.internal.communicator.client.RpcClient;
 import org.openhab.binding.homematic.internal.communicator.client.TransferMode;
 import org.openhab.binding.homematic.internal.communicator.client.UnknownParameterSetException;
@@ -76,6 +83,8 @@ import org.openhab.binding.homematic.internal.model.HmInterface;
 import org.openhab.binding.homematic.internal.model.HmParamsetType;
 import org.openhab.binding.homematic.internal.model.HmRssiInfo;
 import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.common.NamedThreadFactory;
 import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -106,11 +115,12 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private final Map<String, HmDevice> devices = Collections.synchronizedMap(new HashMap<>());
     private final Map<HmInterface, TransferMode> availableInterfaces = new TreeMap<>();
     private static List<VirtualDatapointHandler> virtualDatapointHandlers = new ArrayList<>();
-    private boolean cancelLoadAllMetadata;
+    private volatile boolean cancelLoadAllMetadata;
     private boolean initialized;
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final ParamsetDescriptionCache paramsetDescriptionCache;
 
     static {
         // loads all virtual datapoints
@@ -139,6 +149,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
         this.httpClient = httpClient;
+        this.paramsetDescriptionCache = new ParamsetDescriptionCache(
+                Path.of(OpenHAB.getUserDataFolder(), BINDING_ID, id + "-paramset-descriptions.cache"));
     }
 
     @Override
@@ -227,8 +239,10 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     protected synchronized void startClients() throws IOException {
         for (TransferMode mode : availableInterfaces.values()) {
             if (!rpcClients.containsKey(mode)) {
-                rpcClients.put(mode,
-                        mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient) : new BinRpcClient(config));
+                RpcClient<?> rpcClient = mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient)
+                        : new BinRpcClient(config);
+                rpcClient.setParamsetDescriptionCache(paramsetDescriptionCache);
+                rpcClients.put(mode, rpcClient);
             }
         }
     }
@@ -373,64 +387,110 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     @Override
     public void loadAllDeviceMetadata() throws IOException {
         cancelLoadAllMetadata = false;
+        paramsetDescriptionCache.load();
         // load all device descriptions
         List<HmDevice> deviceDescriptions = getDeviceDescriptions();
 
-        // loading datapoints for all channels
+        // loading datapoints for all channels, the devices are loaded in parallel over the pooled connections
         Set<String> loadedDevices = new HashSet<>();
-        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new HashMap<>();
-        for (HmDevice device : deviceDescriptions) {
-            if (!cancelLoadAllMetadata) {
-                try {
-                    logger.trace("Loading metadata for device '{}' of type '{}'", device.getAddress(),
-                            device.getType());
-                    if (device.isGatewayExtras()) {
-                        loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_VARIABLE));
-                        loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_SCRIPT));
-                    } else {
-                        for (HmChannel channel : device.getChannels()) {
-                            logger.trace("  Loading channel {}", channel);
-                            // speed up metadata generation a little bit for equal channels in the gateway devices
-                            if ((DEVICE_TYPE_VIRTUAL.equals(device.getType())
-                                    || DEVICE_TYPE_VIRTUAL_WIRED.equals(device.getType())) && channel.getNumber() > 1) {
-                                HmChannel previousChannel = device.getChannel(channel.getNumber() - 1);
-                                cloneAllDatapointsIntoChannel(channel, previousChannel.getDatapoints());
-                            } else {
-                                String channelId = String.format("%s:%s:%s", channel.getDevice().getType(),
-                                        channel.getDevice().getFirmware(), channel.getNumber());
-                                Collection<HmDatapoint> cachedDatapoints = datapointsByChannelIdCache.get(channelId);
-                                if (cachedDatapoints != null) {
-                                    // clone all datapoints
-                                    cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
-                                } else {
-                                    logger.trace("    Loading datapoints into channel {}", channel);
-                                    addChannelDatapoints(channel, HmParamsetType.MASTER);
-                                    addChannelDatapoints(channel, HmParamsetType.VALUES);
-
-                                    // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
-                                    // the data point set might change depending on the selected mode.
-                                    if (!channel.isReconfigurable()) {
-                                        datapointsByChannelIdCache.put(channelId, channel.getDatapoints());
-                                    }
-                                }
-                            }
+        Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache = new ConcurrentHashMap<>();
+        Map<HmDevice, Future<?>> datapointLoaders = new HashMap<>();
+        ExecutorService executor = Executors.newFixedThreadPool(config.getConnectionPoolSize(),
+                new NamedThreadFactory("binding-" + THING_TYPE_BRIDGE + ":" + id + "-metadata", true));
+        try {
+            for (HmDevice device : deviceDescriptions) {
+                if (!device.isGatewayExtras()) {
+                    datapointLoaders.put(device, executor.submit(() -> {
+                        loadDeviceDatapoints(device, datapointsByChannelIdCache);
+                        return null;
+                    }));
+                }
+            }
+            // the devices are handed over to the gateway adapter in the order of the device descriptions
+            for (HmDevice device : deviceDescriptions) {
+                if (!cancelLoadAllMetadata) {
+                    try {
+                        if (device.isGatewayExtras()) {
+                            loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_VARIABLE));
+                            loadChannelValues(device.getChannel(HmChannel.CHANNEL_NUMBER_SCRIPT));
+                        } else {
+                            waitForDatapoints(datapointLoaders.get(device));
                         }
+                        prepareDevice(device);
+                        loadedDevices.add(device.getAddress());
+                        gatewayAdapter.onDeviceLoaded(device);
+                    } catch (IOException ex) {
+                        logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(),
+                                id, ex.getMessage());
                     }
-                    prepareDevice(device);
-                    loadedDevices.add(device.getAddress());
-                    gatewayAdapter.onDeviceLoaded(device);
-                } catch (IOException ex) {
-                    logger.warn("Can't load device with address '{}' from gateway '{}': {}", device.getAddress(), id,
-                            ex.getMessage());
                 }
             }
+        } finally {
+            executor.shutdownNow();
         }
         if (!cancelLoadAllMetadata) {
             devices.keySet().retainAll(loadedDevices);
+            paramsetDescriptionCache.save();
         }
         initialized = true;
     }
 
+    /**
+     * Loads the datapoint metadata of all channels of a device.
+     */
+    private void loadDeviceDatapoints(HmDevice device, Map<String, Collection<HmDatapoint>> datapointsByChannelIdCache)
+            throws IOException {
+        logger.trace("Loading metadata for device '{}' of type '{}'", device.getAddress(), device.getType());
+        for (HmChannel channel : device.getChannels()) {
+            if (cancelLoadAllMetadata) {
+                return;
+            }
+            logger.trace("  Loading channel {}", channel);
+            // speed up metadata generation a little bit for equal channels in the gateway devices
+            if ((DEVICE_TYPE_VIRTUAL.equals(device.getType()) || DEVICE_TYPE_VIRTUAL_WIRED.equals(device.getType()))
+                    && channel.getNumber() > 1) {
+                HmChannel previousChannel = device.getChannel(channel.getNumber() - 1);
+                cloneAllDatapointsIntoChannel(channel, previousChannel.getDatapoints());
+            } else {
+                String channelId = String.format("%s:%s:%s", channel.getDevice().getType(),
+                        channel.getDevice().getFirmware(), channel.getNumber());
+                Collection<HmDatapoint> cachedDatapoints = datapointsByChannelIdCache.get(channelId);
+                if (cachedDatapoints != null) {
+                    // clone all datapoints
+                    cloneAllDatapointsIntoChannel(channel, cachedDatapoints);
+                } else {
+                    logger.trace("    Loading datapoints into channel {}", channel);
+                    addChannelDatapoints(channel, HmParamsetType.MASTER);
+                    addChannelDatapoints(channel, HmParamsetType.VALUES);
+
+                    // Make sure to only cache non-reconfigurable channels. For reconfigurable channels,
+                    // the data point set might change depending on the selected mode.
+                    if (!channel.isReconfigurable()) {
+                        datapointsByChannelIdCache.putIfAbsent(channelId, channel.getDatapoints());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits until the datapoint metadata of a device has been loaded.
+     */
+    private void waitForDatapoints(Future<?> datapointLoader) throws IOException {
+        try {
+            datapointLoader.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while loading metadata", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        }
+    }
+
     /**
      * Loads all datapoints from the gateway.
      */
@@ -61,10 +61,11 @@ public class BinRpcClient extends RpcClient<byte[]> {
     }
 
     /**
-     * Sends a BIN-RPC message and parses the response to see if there was an error.
+     * Sends a BIN-RPC message and parses the response to see if there was an error. BIN-RPC does not support
+     * pipelining, so parallel requests are sent over separate pooled connections.
      */
     @Override
-    protected synchronized Object[] sendMessage(int port, RpcRequest<byte[]> request) throws IOException {
+    protected Object[] sendMessage(int port, RpcRequest<byte[]> request) throws IOException {
         if (logger.isTraceEnabled()) {
             logger.trace("Client BinRpcRequest:\n{}", request);
         }
@@ -76,15 +77,23 @@ public class BinRpcClient extends RpcClient<byte[]> {
      */
     private Object[] sendMessage(int port, RpcRequest<byte[]> request, int rpcRetryCounter) throws IOException {
         BinRpcMessage resp = null;
+        SocketInfo socketInfo = null;
         try {
-            Socket socket = socketHandler.getSocket(port);
+            socketInfo = socketHandler.borrowSocket(port);
+            Socket socket = socketInfo.getSocket();
             socket.getOutputStream().write(request.createMessage());
             resp = new BinRpcMessage(socket.getInputStream(), false, config.getEncoding());
+            socketHandler.returnSocket(port, socketInfo);
+            socketInfo = null;
             return new RpcResponseParser(request).parse(resp.getResponseData());
         } catch (UnknownRpcFailureException | UnknownParameterSetException rpcEx) {
             // throw immediately, don't retry the message
             throw rpcEx;
         } catch (IOException ioEx) {
+            if (socketInfo != null) {
+                socketHandler.invalidateSocket(port, socketInfo);
+                socketInfo = null;
+            }
             if ("init".equals(request.getMethodName()) || rpcRetryCounter >= MAX_RPC_RETRY) {
                 throw ioEx;
             } else {
@@ -95,6 +104,10 @@ public class BinRpcClient extends RpcClient<byte[]> {
                 return sendMessage(port, request, rpcRetryCounter);
             }
         } finally {
+            if (socketInfo != null) {
+                // the request failed with an unexpected exception, the state of the connection is unknown
+                socketHandler.invalidateSocket(port, socketInfo);
+            }
             if (logger.isTraceEnabled()) {
                 logger.trace("Client BinRpcResponse:\n{}", resp == null ? "null" : resp.toString());
             }
@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * File based cache for the responses of getParamsetDescription requests. The paramset description of a channel only
+ * depends on the device type and the firmware version, so it can be reused for all devices of the same type and across
+ * restarts. Entries which were not used since the last {@link #load()} are removed on {@link #save()}, e.g. after a
+ * firmware update.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAX_LENGTH = 1024 * 1024;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_INTEGER = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_DOUBLE = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_ARRAY = 6;
+    private static final byte TYPE_STRUCT = 7;
+
+    private final Path file;
+    private final Map<String, Object[]> entries = new HashMap<>();
+    private final Set<String> usedKeys = new HashSet<>();
+    private boolean modified;
+
+    public ParamsetDescriptionCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the cache key for the paramset of the given channel, null if the channel can not be cached.
+     */
+    public static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        HmDevice device = channel.getDevice();
+        if (device.getFirmware() == null || device.getFirmware().isBlank()) {
+            return null;
+        }
+        return String.format("%s:%s:%s:%s:%s", device.getHmInterface(), device.getType(), device.getFirmware(),
+                channel.getNumber(), paramsetType);
+    }
+
+    /**
+     * Returns the cached getParamsetDescription response for the given key, null if there is none.
+     */
+    public synchronized Object[] get(String key) {
+        Object[] message = entries.get(key);
+        if (message != null) {
+            usedKeys.add(key);
+        }
+        return message;
+    }
+
+    /**
+     * Stores a getParamsetDescription response, responses with unsupported value types are not cached.
+     */
+    public synchronized void put(String key, Object[] message) {
+        if (!isSupported(message)) {
+            logger.trace("Not caching paramset description '{}' with unsupported value types", key);
+            return;
+        }
+        entries.put(key, message);
+        usedKeys.add(key);
+        modified = true;
+    }
+
+    /**
+     * Loads the cache file, all entries are unused afterwards.
+     */
+    public synchronized void load() {
+        entries.clear();
+        usedKeys.clear();
+        modified = false;
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                logger.debug("Ignoring paramset description cache '{}' with unknown format", file);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = readString(in);
+                entries.put(key, (Object[]) readValue(in));
+            }
+            logger.debug("Loaded {} paramset descriptions from '{}'", entries.size(), file);
+        } catch (IOException | ClassCastException e) {
+            logger.debug("Ignoring unreadable paramset description cache '{}': {}", file, e.getMessage());
+            entries.clear();
+        }
+    }
+
+    /**
+     * Removes all entries not used since the last load and writes the cache file if it has been modified.
+     */
+    public synchronized void save() {
+        modified |= entries.keySet().retainAll(usedKeys);
+        if (!modified) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Object[]> entry : entries.entrySet()) {
+                    writeString(out, entry.getKey());
+                    writeValue(out, entry.getValue());
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+            logger.debug("Saved {} paramset descriptions to '{}'", entries.size(), file);
+        } catch (IOException e) {
+            logger.warn("Can't save paramset description cache '{}': {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of cached paramset descriptions.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static boolean isSupported(Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Boolean) {
+            return true;
+        } else if (value instanceof Object[] array) {
+            for (Object element : array) {
+                if (!isSupported(element)) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (value instanceof Map<?, ?> map) {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!(entry.getKey() instanceof String) || !isSupported(entry.getValue())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else if (value instanceof Object[] array) {
+            out.writeByte(TYPE_ARRAY);
+            out.writeInt(array.length);
+            for (Object element : array) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TYPE_STRUCT);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, (String) entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IOException("Unsupported value type " + value.getClass());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_INTEGER:
+                return in.readInt();
+            case TYPE_LONG:
+                return in.readLong();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_ARRAY:
+                Object[] array = new Object[readLength(in)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = readValue(in);
+                }
+                return array;
+            case TYPE_STRUCT:
+                int size = readLength(in);
+                Map<String, Object> struct = new TreeMap<>();
+                for (int i = 0; i < size; i++) {
+                    struct.put(readString(in), readValue(in));
+                }
+                return struct;
+            default:
+                throw new IOException("Unknown value type " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readLength(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readLength(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IOException("Invalid length " + length);
+        }
+        return length;
+    }
+}
@@ -68,11 +68,19 @@ public abstract class RpcClient<T> {
     private String thisUID = UUID.randomUUID().toString();
     private ScheduledFuture<?> future = null;
     private int attempt;
+    private ParamsetDescriptionCache paramsetDescriptionCache;
 
     public RpcClient(HomematicConfig config) {
         this.config = config;
     }
 
+    /**
+     * Sets the cache for paramset descriptions, null disables caching.
+     */
+    public void setParamsetDescriptionCache(ParamsetDescriptionCache paramsetDescriptionCache) {
+        this.paramsetDescriptionCache = paramsetDescriptionCache;
+    }
+
     /**
      * Returns a RpcRequest for this client.
      */
@@ -220,10 +228,24 @@ public abstract class RpcClient<T> {
             // The configuration channel only has a MASTER Paramset, so there is nothing to load
             return;
         }
-        RpcRequest<T> request = createRpcRequest("getParamsetDescription");
-        request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
-        request.addArg(paramsetType.toString());
-        new GetParamsetDescriptionParser(channel, paramsetType).parse(sendMessage(config.getRpcPort(channel), request));
+        ParamsetDescriptionCache cache = paramsetDescriptionCache;
+        // the VALUES paramset of a reconfigurable channel depends on the function the channel is configured to
+        String cacheKey = cache == null || (paramsetType == HmParamsetType.VALUES && channel.isReconfigurable()) ? null
+                : ParamsetDescriptionCache.getKey(channel, paramsetType);
+        Object[] message = cacheKey == null ? null : cache.get(cacheKey);
+        if (message == null) {
+            RpcRequest<T> request = createRpcRequest("getParamsetDescription");
+            request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
+            request.addArg(paramsetType.toString());
+            message = sendMessage(config.getRpcPort(channel), request);
+            new GetParamsetDescriptionParser(channel, paramsetType).parse(message);
+            if (cacheKey != null && !channel.isReconfigurable()) {
+                cache.put(cacheKey, message);
+            }
+        } else {
+            logger.trace("Using cached paramset description for channel {}, paramset {}", channel, paramsetType);
+            new GetParamsetDescriptionParser(channel, paramsetType).parse(message);
+        }
     }
 
     /**
@@ -13,78 +13,174 @@
 package org.openhab.binding.homematic.internal.communicator.client;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Simple socket cache class.
+ * Pool of sockets for each port of the Homematic gateway.
+ * <p>
+ * A socket is borrowed for a request and its response and returned afterwards, so that up to
+ * {@link HomematicConfig#getConnectionPoolSize()} requests can be sent to the same port in parallel. Idle sockets are
+ * checked before they are reused and closed if they reached their max alive time or are not usable any more.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class SocketHandler {
     private final Logger logger = LoggerFactory.getLogger(SocketHandler.class);
 
-    private Map<Integer, SocketInfo> socketsPerPort = new HashMap<>();
+    private Map<Integer, PortPool> poolsPerPort = new HashMap<>();
     private HomematicConfig config;
 
+    /**
+     * The sockets of a single port.
+     */
+    private class PortPool {
+        private final Deque<SocketInfo> idleSockets = new ArrayDeque<>();
+        private final Semaphore permits = new Semaphore(config.getConnectionPoolSize(), true);
+        // incremented when the sockets are removed, sockets of older generations are closed when they are returned
+        private int generation;
+    }
+
     public SocketHandler(HomematicConfig config) {
         this.config = config;
     }
 
+    private synchronized PortPool getPool(int port) {
+        return poolsPerPort.computeIfAbsent(port, p -> new PortPool());
+    }
+
     /**
-     * Returns a socket for the given port, (re)creates it if required.
+     * Borrows a socket for the given port, waits if all sockets of the port are in use and creates a new socket if no
+     * usable idle socket is available. The socket must be handed back with {@link #returnSocket(int, SocketInfo)} or
+     * {@link #invalidateSocket(int, SocketInfo)}.
      */
-    public Socket getSocket(int port) throws IOException {
-        SocketInfo socketInfo = socketsPerPort.get(port);
-        if (socketInfo == null) {
+    public SocketInfo borrowSocket(int port) throws IOException {
+        PortPool pool = getPool(port);
+        try {
+            if (!pool.permits.tryAcquire(config.getTimeout(), TimeUnit.SECONDS)) {
+                throw new IOException("Timeout waiting for a free connection to port " + port);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a free connection to port " + port);
+        }
+        try {
+            SocketInfo socketInfo;
+            while ((socketInfo = pollIdleSocket(pool)) != null) {
+                if (isUsable(socketInfo)) {
+                    logger.trace("Returning socket for port {}", port);
+                    return socketInfo;
+                }
+                closeSilent(socketInfo.getSocket());
+            }
             logger.trace("Creating new socket for port {}", port);
             Socket socket = new Socket();
-            socket.setSoTimeout(config.getTimeout() * 1000);
-            socket.setReuseAddress(true);
-            socket.connect(new InetSocketAddress(config.getGatewayAddress(), port), socket.getSoTimeout());
-            socketInfo = new SocketInfo(socket);
-            socketsPerPort.put(port, socketInfo);
-        } else {
-            boolean isMaxAliveReached = System.currentTimeMillis()
-                    - socketInfo.getCreated() > (config.getSocketMaxAlive() * 1000);
+            try {
+                socket.setSoTimeout(config.getTimeout() * 1000);
+                socket.setReuseAddress(true);
+                socket.connect(new InetSocketAddress(config.getGatewayAddress(), port), socket.getSoTimeout());
+            } catch (IOException e) {
+                closeSilent(socket);
+                throw e;
+            }
+            synchronized (this) {
+                return new SocketInfo(socket, pool.generation);
+            }
+        } catch (IOException | RuntimeException e) {
+            pool.permits.release();
+            throw e;
+        }
+    }
 
-            if (isMaxAliveReached) {
-                logger.debug("Max alive time reached for socket on port {}", port);
-                removeSocket(port);
-                return getSocket(port);
+    /**
+     * Returns a socket after a successful request, so that it can be reused.
+     */
+    public void returnSocket(int port, SocketInfo socketInfo) {
+        PortPool pool = getPool(port);
+        boolean reuse;
+        synchronized (this) {
+            reuse = socketInfo.getGeneration() == pool.generation;
+            if (reuse) {
+                pool.idleSockets.push(socketInfo);
             }
-            logger.trace("Returning socket for port {}", port);
         }
-        return socketInfo.getSocket();
+        if (!reuse) {
+            closeSilent(socketInfo.getSocket());
+        }
+        pool.permits.release();
     }
 
     /**
-     * Removes the socket for the given port from the cache.
+     * Closes a socket after a failed request.
+     */
+    public void invalidateSocket(int port, SocketInfo socketInfo) {
+        logger.trace("Closing Socket on port {}", port);
+        closeSilent(socketInfo.getSocket());
+        getPool(port).permits.release();
+    }
+
+    /**
+     * Closes the idle sockets of the given port. Sockets in use are closed when they are returned.
      */
     public void removeSocket(int port) {
-        SocketInfo socketInfo = socketsPerPort.get(port);
-        if (socketInfo != null) {
-            logger.trace("Closing Socket on port {}", port);
-            socketsPerPort.remove(port);
-            closeSilent(socketInfo.getSocket());
+        PortPool pool = getPool(port);
+        Deque<SocketInfo> socketsToClose;
+        synchronized (this) {
+            pool.generation++;
+            socketsToClose = new ArrayDeque<>(pool.idleSockets);
+            pool.idleSockets.clear();
         }
+        if (!socketsToClose.isEmpty()) {
+            logger.trace("Closing {} socket(s) on port {}", socketsToClose.size(), port);
+        }
+        socketsToClose.forEach(socketInfo -> closeSilent(socketInfo.getSocket()));
     }
 
     /**
      * Removes all cached sockets.
      */
     public void flush() {
-        synchronized (SocketHandler.class) {
-            Integer[] portsToRemove = socketsPerPort.keySet().toArray(new Integer[0]);
-            for (Integer key : portsToRemove) {
-                removeSocket(key);
-            }
+        Integer[] portsToRemove;
+        synchronized (this) {
+            portsToRemove = poolsPerPort.keySet().toArray(new Integer[0]);
+        }
+        for (Integer key : portsToRemove) {
+            removeSocket(key);
+        }
+    }
+
+    private synchronized SocketInfo pollIdleSocket(PortPool pool) {
+        return pool.idleSockets.poll();
+    }
+
+    /**
+     * Checks if an idle socket can be used for the next request.
+     */
+    private boolean isUsable(SocketInfo socketInfo) {
+        Socket socket = socketInfo.getSocket();
+        if (System.currentTimeMillis() - socketInfo.getCreated() > (config.getSocketMaxAlive() * 1000)) {
+            logger.debug("Max alive time reached for socket on port {}", socket.getPort());
+            return false;
+        }
+        if (socket.isClosed() || !socket.isConnected() || socket.isInputShutdown() || socket.isOutputShutdown()) {
+            return false;
+        }
+        try {
+            // unread data of an idle socket would be taken as the response of the next request
+            return socket.getInputStream().available() == 0;
+        } catch (IOException e) {
+            return false;
         }
     }
 
@@ -22,10 +22,16 @@ import java.net.Socket;
 public class SocketInfo {
     private Socket socket;
     private long created;
+    private int generation;
 
     public SocketInfo(Socket socket) {
+        this(socket, 0);
+    }
+
+    public SocketInfo(Socket socket, int generation) {
         this.socket = socket;
         this.created = System.currentTimeMillis();
+        this.generation = generation;
     }
 
     /**
@@ -41,4 +47,11 @@ public class SocketInfo {
     public long getCreated() {
         return created;
     }
+
+    /**
+     * Returns the generation of the socket pool when the socket has been created.
+     */
+    public int getGeneration() {
+        return generation;
+    }
 }
@@ -14,9 +14,13 @@ package org.openhab.binding.homematic.internal.communicator.client;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -49,6 +53,7 @@ public class XmlRpcClient extends RpcClient<String> {
     private final Logger logger = LoggerFactory.getLogger(XmlRpcClient.class);
     private HttpClient httpClient;
     private AuthenticationHandler authenticationHandler;
+    private final Map<Integer, Semaphore> requestPermitsPerPort = new ConcurrentHashMap<>();
 
     public XmlRpcClient(HomematicConfig config, HttpClient httpClient) throws IOException, ConfigurationException {
         super(config);
@@ -68,11 +73,33 @@ public class XmlRpcClient extends RpcClient<String> {
         return "http://" + config.getCallbackHost() + ":" + config.getXmlCallbackPort();
     }
 
+    /**
+     * Sends a XML-RPC message, up to {@link HomematicConfig#getConnectionPoolSize()} requests are sent to the same port
+     * in parallel.
+     */
     @Override
-    protected synchronized Object[] sendMessage(int port, RpcRequest<String> request) throws IOException {
+    protected Object[] sendMessage(int port, RpcRequest<String> request) throws IOException {
         if (logger.isTraceEnabled()) {
             logger.trace("Client XmlRpcRequest (port {}):\n{}", port, request);
         }
+        Semaphore requestPermits = requestPermitsPerPort.computeIfAbsent(port,
+                p -> new Semaphore(config.getConnectionPoolSize(), true));
+        try {
+            if (!requestPermits.tryAcquire(config.getTimeout(), TimeUnit.SECONDS)) {
+                throw new IOException("Timeout waiting for a free connection to port " + port);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for a free connection to port " + port);
+        }
+        try {
+            return sendWithRetry(port, request);
+        } finally {
+            requestPermits.release();
+        }
+    }
+
+    private Object[] sendWithRetry(int port, RpcRequest<String> request) throws IOException {
         IOException reason = new IOException();
         for (int rpcRetryCounter = 1; rpcRetryCounter <= MAX_RPC_RETRY; rpcRetryCounter++) {
             try {
@@ -109,11 +136,7 @@ public class XmlRpcClient extends RpcClient<String> {
             if (port == config.getGroupPort()) {
                 url += "/groups";
             }
-            if (authenticationHandler == null) {
-                authenticationHandler = new AuthenticationHandler(config);
-            }
-
-            Request req = authenticationHandler.updateAuthenticationInformation(
+            Request req = getAuthenticationHandler().updateAuthenticationInformation(
                     httpClient.POST(new URI(url)).content(content).timeout(config.getTimeout(), TimeUnit.SECONDS)
                             .header(HttpHeader.CONTENT_TYPE, "text/xml;charset=" + config.getEncoding()));
 
@@ -139,4 +162,11 @@ public class XmlRpcClient extends RpcClient<String> {
         }
         return ret;
     }
+
+    private synchronized AuthenticationHandler getAuthenticationHandler() throws ConfigurationException {
+        if (authenticationHandler == null) {
+            authenticationHandler = new AuthenticationHandler(config);
+        }
+        return authenticationHandler;
+    }
 }
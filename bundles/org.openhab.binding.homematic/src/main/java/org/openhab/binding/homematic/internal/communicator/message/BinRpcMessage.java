@@ -28,6 +28,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeMap;
 
 import org.slf4j.Logger;
@@ -46,9 +47,22 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         RESPONSE
     }
 
+    /**
+     * Handles the calls of a <code>system.multicall</code> while they are decoded.
+     */
+    @FunctionalInterface
+    public interface MulticallHandler {
+        void handleCall(String methodName, Object[] params) throws IOException;
+    }
+
+    private static final int TYPE_ARRAY = 0x100;
+    private static final int TYPE_STRUCT = 0x101;
+
     private Object[] messageData;
     private byte[] binRpcData;
     private int offset;
+    // the length of a decoded message, the data array may be longer if it is reused
+    private int length;
 
     private String methodName;
     private TYPE type;
@@ -75,34 +89,62 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     public BinRpcMessage(InputStream is, boolean methodHeader, Charset encoding) throws IOException {
         this.encoding = encoding;
         byte[] sig = new byte[8];
-        int length = is.read(sig, 0, 4);
-        if (length != 4) {
-            throw new EOFException("Only " + length + " bytes received reading signature");
+        int read = readFully(is, sig, 0, 4);
+        if (read != 4) {
+            throw new EOFException("Only " + read + " bytes received reading signature");
         }
         validateBinXSignature(sig);
-        length = is.read(sig, 4, 4);
-        if (length != 4) {
-            throw new EOFException("Only " + length + " bytes received reading message length");
-        }
-        int datasize = (new BigInteger(Arrays.copyOfRange(sig, 4, 8))).intValue();
-        byte[] payload = new byte[datasize];
-        int offset = 0;
-        int currentLength;
-
-        while (offset < datasize && (currentLength = is.read(payload, offset, datasize - offset)) != -1) {
-            offset += currentLength;
+        read = readFully(is, sig, 4, 4);
+        if (read != 4) {
+            throw new EOFException("Only " + read + " bytes received reading message length");
         }
-        if (offset != datasize) {
-            throw new EOFException("Only " + offset + " bytes received while reading message payload, expected "
+        int datasize = getInt(sig, 4);
+        byte[] message = new byte[sig.length + datasize];
+        System.arraycopy(sig, 0, message, 0, sig.length);
+        read = readFully(is, message, sig.length, datasize);
+        if (read != datasize) {
+            throw new EOFException("Only " + read + " bytes received while reading message payload, expected "
                     + datasize + " bytes");
         }
-        byte[] message = new byte[sig.length + payload.length];
-        System.arraycopy(sig, 0, message, 0, sig.length);
-        System.arraycopy(payload, 0, message, sig.length, payload.length);
 
         decodeMessage(message, methodHeader);
     }
 
+    /**
+     * Decodes the method name of a BIN-RPC request from the given buffer without copying it. The arguments are
+     * decoded by {@link #decodeArguments()} or {@link #decodeMulticall(MulticallHandler)}, the buffer must not be
+     * modified until then.
+     *
+     * @param buffer the buffer containing the message, starting with the signature
+     * @param length the length of the message in the buffer
+     */
+    public static BinRpcMessage decodeRequestHeader(byte[] buffer, int length, Charset encoding) throws IOException {
+        if (length < 8) {
+            throw new EOFException("Only " + length + " bytes received");
+        }
+        BinRpcMessage message = new BinRpcMessage(encoding);
+        message.validateBinXSignature(buffer);
+        message.binRpcData = buffer;
+        message.length = length;
+        message.offset = 8;
+        message.methodName = message.readString();
+        message.readInt();
+        return message;
+    }
+
+    private BinRpcMessage(Charset encoding) {
+        this.encoding = encoding;
+    }
+
+    private static int readFully(InputStream is, byte[] buffer, int offset, int length) throws IOException {
+        int read = 0;
+        int currentLength;
+        while (read < length && (currentLength = is.read(buffer, offset + read, length - read)) != -1) {
+            read += currentLength;
+        }
+        return read;
+    }
+
     private void validateBinXSignature(byte[] sig) throws UnsupportedEncodingException {
         if (sig[0] != 'B' || sig[1] != 'i' || sig[2] != 'n') {
             throw new UnsupportedEncodingException("No BinX signature");
@@ -123,6 +165,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
 
     private void decodeMessage(byte[] message, boolean methodHeader) throws IOException {
         binRpcData = message;
+        length = message.length;
 
         offset = 8;
 
@@ -137,10 +180,14 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         binRpcData[3] = type == TYPE.RESPONSE ? (byte) 1 : (byte) 0;
     }
 
+    private int getArgumentsOffset() {
+        return 8 + (methodName != null ? methodName.getBytes(encoding).length + 8 : 0);
+    }
+
     private void generateResponseData() throws IOException {
-        offset = 8 + (methodName != null ? methodName.length() + 8 : 0);
+        offset = getArgumentsOffset();
         List<Object> values = new ArrayList<>();
-        while (offset < binRpcData.length) {
+        while (offset < length) {
             values.add(readRpcValue());
         }
         messageData = values.toArray();
@@ -192,6 +239,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         byte[] trimmed = new byte[offset];
         System.arraycopy(binRpcData, 0, trimmed, 0, offset);
         binRpcData = trimmed;
+        length = offset;
     }
 
     @Override
@@ -199,19 +247,71 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
         return messageData;
     }
 
+    /**
+     * Decodes the arguments of a message created by {@link #decodeRequestHeader(byte[], int, Charset)}.
+     */
+    public Object[] decodeArguments() throws IOException {
+        generateResponseData();
+        return messageData;
+    }
+
+    /**
+     * Decodes the calls of a <code>system.multicall</code> message created by
+     * {@link #decodeRequestHeader(byte[], int, Charset)} one by one and passes each call to the handler as soon as it
+     * is decoded, without decoding the whole message first.
+     */
+    public void decodeMulticall(MulticallHandler handler) throws IOException {
+        offset = getArgumentsOffset();
+        if (offset >= length) {
+            return;
+        }
+        int type = readInt();
+        if (type != TYPE_ARRAY) {
+            throw new IOException("Unexpected multicall argument type " + type);
+        }
+        int numCalls = readInt();
+        while (numCalls-- > 0) {
+            type = readInt();
+            if (type != TYPE_STRUCT) {
+                readRpcValue(type);
+                continue;
+            }
+            String method = "";
+            Object[] params = null;
+            int numElements = readInt();
+            while (numElements-- > 0) {
+                String name = readString();
+                Object value = readRpcValue();
+                if ("methodName".equals(name)) {
+                    method = Objects.toString(value, "");
+                } else if ("params".equals(name) && value instanceof Object[] array) {
+                    params = array;
+                }
+            }
+            if (params != null) {
+                handler.handleCall(method, params);
+            } else {
+                logger.debug("Ignoring multicall '{}' without params", method);
+            }
+        }
+    }
+
     // read rpc values
+    private static int getInt(byte[] data, int position) {
+        return ((data[position] & 0xff) << 24) | ((data[position + 1] & 0xff) << 16)
+                | ((data[position + 2] & 0xff) << 8) | (data[position + 3] & 0xff);
+    }
+
     private int readInt() {
-        byte[] bi = new byte[4];
-        System.arraycopy(binRpcData, offset, bi, 0, 4);
+        int value = getInt(binRpcData, offset);
         offset += 4;
-        return (new BigInteger(bi)).intValue();
+        return value;
     }
 
     private long readInt64() {
-        byte[] bi = new byte[8];
-        System.arraycopy(binRpcData, offset, bi, 0, 8);
+        long value = ((long) getInt(binRpcData, offset) << 32) | (getInt(binRpcData, offset + 4) & 0xffffffffL);
         offset += 8;
-        return (new BigInteger(bi)).longValue();
+        return value;
     }
 
     private String readString() {
@@ -221,7 +321,10 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     }
 
     private Object readRpcValue() throws IOException {
-        int type = readInt();
+        return readRpcValue(readInt());
+    }
+
+    private Object readRpcValue(int type) throws IOException {
         switch (type) {
             case 1:
                 return Integer.valueOf(readInt());
@@ -239,7 +342,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
             case 0xD1:
                 // Int64
                 return Long.valueOf(readInt64());
-            case 0x100:
+            case TYPE_ARRAY:
                 // Array
                 int numElements = readInt();
                 Collection<Object> array = new ArrayList<>();
@@ -247,7 +350,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
                     array.add(readRpcValue());
                 }
                 return array.toArray();
-            case 0x101:
+            case TYPE_STRUCT:
                 // Struct
                 numElements = readInt();
                 Map<String, Object> struct = new TreeMap<>();
@@ -258,7 +361,7 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
                 return struct;
 
             default:
-                for (int i = 0; i < binRpcData.length; i++) {
+                for (int i = 0; i < length; i++) {
                     logger.info("{} {}", Integer.toHexString(binRpcData[i]), (char) binRpcData[i]);
                 }
                 throw new IOException("Unknown data type " + type);
@@ -376,7 +479,9 @@ public class BinRpcMessage implements RpcRequest<byte[]>, RpcResponse {
     @Override
     public String toString() {
         try {
-            trimBinRpcData();
+            if (length == 0) {
+                trimBinRpcData();
+            }
             generateResponseData();
             return RpcUtils.dumpRpcMessage(methodName, messageData);
         } catch (Exception e) {
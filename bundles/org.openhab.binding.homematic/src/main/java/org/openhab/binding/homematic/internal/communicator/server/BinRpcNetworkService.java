@@ -89,6 +89,13 @@ public class BinRpcNetworkService implements Runnable {
         }
     }
 
+    /**
+     * Returns the statistics of the events received from the gateway.
+     */
+    public RpcEventStatistics getEventStatistics() {
+        return rpcResponseHandler.getEventStatistics();
+    }
+
     /**
      * Stops the listening.
      */
@@ -12,8 +12,12 @@
  */
 package org.openhab.binding.homematic.internal.communicator.server;
 
+import static org.openhab.binding.homematic.internal.misc.HomematicConstants.RPC_METHODNAME_SYSTEM_MULTICALL;
+
+import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
 
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
@@ -22,17 +26,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Reads a BIN-RPC message from the socket and handles the method call.
+ * Reads BIN-RPC messages from the socket and handles the method calls.
+ * <p>
+ * The messages of a connection are read into a buffer which is reused for all messages. The calls of a
+ * <code>system.multicall</code> are handled one by one while the message is decoded.
  *
  * @author Gerhard Riegler - Initial contribution
  */
 public class BinRpcResponseHandler implements Runnable {
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    // larger buffers, e.g. for newDevices messages, are not kept for the following messages
+    private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+    private static final int MAX_MESSAGE_SIZE = 64 * 1024 * 1024;
+
     private final Logger logger = LoggerFactory.getLogger(BinRpcResponseHandler.class);
 
     private Socket socket;
     private RpcResponseHandler<byte[]> rpcResponseHandler;
     private HomematicConfig config;
     private long created;
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
 
     public BinRpcResponseHandler(Socket socket, RpcResponseHandler<byte[]> rpcResponseHandler, HomematicConfig config) {
         this.socket = socket;
@@ -47,14 +60,26 @@ public class BinRpcResponseHandler implements Runnable {
     @Override
     public void run() {
         try {
+            DataInputStream input = new DataInputStream(socket.getInputStream());
+            OutputStream output = socket.getOutputStream();
             boolean isMaxAliveReached;
             do {
-                BinRpcMessage message = new BinRpcMessage(socket.getInputStream(), true, config.getEncoding());
+                int length = readMessage(input);
+                BinRpcMessage message = BinRpcMessage.decodeRequestHeader(buffer, length, config.getEncoding());
                 logger.trace("Event BinRpcMessage: {}", message);
-                byte[] returnValue = rpcResponseHandler.handleMethodCall(message.getMethodName(),
-                        message.getResponseData());
+                byte[] returnValue;
+                if (RPC_METHODNAME_SYSTEM_MULTICALL.equals(message.getMethodName())) {
+                    message.decodeMulticall(rpcResponseHandler::handleMethodCall);
+                    returnValue = rpcResponseHandler.getMulticallResult();
+                } else {
+                    returnValue = rpcResponseHandler.handleMethodCall(message.getMethodName(),
+                            message.decodeArguments());
+                }
                 if (returnValue != null) {
-                    socket.getOutputStream().write(returnValue);
+                    output.write(returnValue);
+                }
+                if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+                    buffer = new byte[INITIAL_BUFFER_SIZE];
                 }
                 isMaxAliveReached = System.currentTimeMillis() - created > (config.getSocketMaxAlive() * 1000);
             } while (!isMaxAliveReached);
@@ -71,4 +96,26 @@ public class BinRpcResponseHandler implements Runnable {
             }
         }
     }
+
+    /**
+     * Reads the next message into the buffer, growing the buffer if the message does not fit.
+     *
+     * @return the length of the message including the header
+     */
+    private int readMessage(DataInputStream input) throws IOException {
+        input.readFully(buffer, 0, 8);
+        int datasize = ((buffer[4] & 0xff) << 24) | ((buffer[5] & 0xff) << 16) | ((buffer[6] & 0xff) << 8)
+                | (buffer[7] & 0xff);
+        if (datasize < 0 || datasize > MAX_MESSAGE_SIZE) {
+            throw new IOException("Invalid BIN-RPC message size " + datasize);
+        }
+        int length = 8 + datasize;
+        if (length > buffer.length) {
+            byte[] newBuffer = new byte[Math.max(length, buffer.length * 2)];
+            System.arraycopy(buffer, 0, newBuffer, 0, 8);
+            buffer = newBuffer;
+        }
+        input.readFully(buffer, 8, datasize);
+        return length;
+    }
 }
@@ -62,6 +62,10 @@ public class BinRpcServer implements RpcServer {
                 logger.error("{}", e.getMessage(), e);
             }
             networkService.shutdown();
+            RpcEventStatistics eventStatistics = networkService.getEventStatistics();
+            for (RpcEventStatistics.InterfaceStatistics statistics : eventStatistics.getStatistics()) {
+                logger.debug("Received {} events from interface '{}'", statistics.events(), statistics.interfaceId());
+            }
             networkService = null;
         }
     }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.server;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the events received from the interfaces of a Homematic gateway. The event rate of an interface is computed
+ * over windows of one minute and logged at the end of each window.
+ *
+ * @author agent - Initial contribution
+ */
+public class RpcEventStatistics {
+    private static final long WINDOW_MILLIS = 60000;
+
+    private final Logger logger = LoggerFactory.getLogger(RpcEventStatistics.class);
+
+    private final Map<String, Counter> counters = new TreeMap<>();
+    private final LongSupplier clock;
+
+    /**
+     * The statistics of a single interface.
+     *
+     * @param interfaceId the id of the interface, as registered at the gateway
+     * @param events the number of events received
+     * @param eventsPerSecond the event rate of the last completed window
+     */
+    public record InterfaceStatistics(String interfaceId, long events, double eventsPerSecond) {
+    }
+
+    private static class Counter {
+        private long events;
+        private long windowStart;
+        private long windowEvents;
+        private double eventsPerSecond;
+
+        private Counter(long windowStart) {
+            this.windowStart = windowStart;
+        }
+    }
+
+    public RpcEventStatistics() {
+        this(System::currentTimeMillis);
+    }
+
+    RpcEventStatistics(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Counts an event of the given interface.
+     */
+    public synchronized void eventReceived(String interfaceId) {
+        long now = clock.getAsLong();
+        Counter counter = counters.computeIfAbsent(interfaceId, id -> new Counter(now));
+        long windowLength = now - counter.windowStart;
+        if (windowLength >= WINDOW_MILLIS) {
+            counter.eventsPerSecond = counter.windowEvents * 1000.0 / windowLength;
+            counter.windowStart = now;
+            counter.windowEvents = 0;
+            logger.debug("Received {} events/s from interface '{}', {} events in total",
+                    String.format("%.1f", counter.eventsPerSecond), interfaceId, counter.events);
+        }
+        counter.events++;
+        counter.windowEvents++;
+    }
+
+    /**
+     * Returns the statistics of all interfaces which sent events, ordered by the interface id.
+     */
+    public synchronized List<InterfaceStatistics> getStatistics() {
+        List<InterfaceStatistics> statistics = new ArrayList<>();
+        counters.forEach((interfaceId, counter) -> statistics
+                .add(new InterfaceStatistics(interfaceId, counter.events, counter.eventsPerSecond)));
+        return statistics;
+    }
+}
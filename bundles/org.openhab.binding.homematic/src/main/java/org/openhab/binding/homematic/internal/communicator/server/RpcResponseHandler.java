@@ -38,6 +38,7 @@ public abstract class RpcResponseHandler<T> {
     private final Logger logger = LoggerFactory.getLogger(RpcResponseHandler.class);
 
     private RpcEventListener listener;
+    private final RpcEventStatistics eventStatistics = new RpcEventStatistics();
 
     public RpcResponseHandler(RpcEventListener listener) {
         this.listener = listener;
@@ -68,7 +69,7 @@ public abstract class RpcResponseHandler<T> {
                     handleMethodCall(method, data);
                 }
             }
-            return getEmptyEventListResult();
+            return getMulticallResult();
         } else if (RPC_METHODNAME_SET_CONFIG_READY.equals(methodName)) {
             return getEmptyEventListResult();
         } else {
@@ -77,6 +78,21 @@ public abstract class RpcResponseHandler<T> {
         }
     }
 
+    /**
+     * Returns the result of a <code>system.multicall</code>, after all calls were handled by
+     * {@link #handleMethodCall(String, Object[])}.
+     */
+    public T getMulticallResult() {
+        return getEmptyEventListResult();
+    }
+
+    /**
+     * Returns the statistics of the events received from the gateway.
+     */
+    public RpcEventStatistics getEventStatistics() {
+        return eventStatistics;
+    }
+
     /**
      * Creates a BINRPC message with the supported method names.
      */
@@ -95,6 +111,7 @@ public abstract class RpcResponseHandler<T> {
     private T handleEvent(Object[] message) throws IOException {
         EventParser eventParser = new EventParser();
         HmDatapointInfo dpInfo = eventParser.parse(message);
+        eventStatistics.eventReceived(Objects.toString(message[0], ""));
         listener.eventReceived(dpInfo, eventParser.getValue());
         return getEmptyStringResult();
     }
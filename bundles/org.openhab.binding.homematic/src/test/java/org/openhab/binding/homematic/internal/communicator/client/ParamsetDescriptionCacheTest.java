@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.client;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmInterface;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+
+/**
+ * Tests the {@link ParamsetDescriptionCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest {
+
+    private @TempDir Path tempDir;
+
+    private static Object[] description() {
+        return new Object[] { Map.of("LEVEL",
+                Map.of("TYPE", "FLOAT", "MIN", 0.0, "MAX", 1.01, "OPERATIONS", 7, "DEFAULT", 0L, "UNIT", "100%",
+                        "FLAGS", true, "VALUE_LIST", new Object[] { "A", "B" })) };
+    }
+
+    @Test
+    public void descriptionsSurviveRestart() {
+        Path file = tempDir.resolve("homematic").resolve("test.cache");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.load();
+        cache.put("RF:HM-LC-Dim1T-Pl:2.9:1:VALUES", description());
+        cache.save();
+
+        ParamsetDescriptionCache reloaded = new ParamsetDescriptionCache(file);
+        reloaded.load();
+        Object[] message = reloaded.get("RF:HM-LC-Dim1T-Pl:2.9:1:VALUES");
+        assertThat(message.length, is(1));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> level = ((Map<String, Map<String, Object>>) message[0]).get("LEVEL");
+        assertThat(level.get("TYPE"), is("FLOAT"));
+        assertThat(level.get("MAX"), is(1.01));
+        assertThat(level.get("OPERATIONS"), is(7));
+        assertThat(level.get("DEFAULT"), is(0L));
+        assertThat(level.get("FLAGS"), is(true));
+        assertThat(level.get("VALUE_LIST"), is(new Object[] { "A", "B" }));
+    }
+
+    @Test
+    public void unusedDescriptionsAreRemovedOnSave() {
+        Path file = tempDir.resolve("test.cache");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.put("old", description());
+        cache.put("new", description());
+        cache.save();
+
+        cache.load();
+        assertThat(cache.get("new"), is(notNullValue()));
+        cache.save();
+
+        cache.load();
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get("old"), is(nullValue()));
+    }
+
+    @Test
+    public void unsupportedValuesAreNotCached() {
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(tempDir.resolve("test.cache"));
+        cache.put("date", new Object[] { Map.of("VALUE", new Date()) });
+        assertThat(cache.get("date"), is(nullValue()));
+    }
+
+    @Test
+    public void keyContainsTypeAndFirmware() {
+        HmDevice device = new HmDevice("ABC0000001", HmInterface.RF, "HM-LC-Dim1T-Pl", "ccu", null, "2.9");
+        HmChannel channel = new HmChannel("DIMMER", 1);
+        device.addChannel(channel);
+        assertThat(ParamsetDescriptionCache.getKey(channel, HmParamsetType.MASTER),
+                is("RF:HM-LC-Dim1T-Pl:2.9:1:MASTER"));
+
+        HmDevice withoutFirmware = new HmDevice("ABC0000002", HmInterface.RF, "HM-LC-Dim1T-Pl", "ccu", null, "");
+        HmChannel otherChannel = new HmChannel("DIMMER", 1);
+        withoutFirmware.addChannel(otherChannel);
+        assertThat(ParamsetDescriptionCache.getKey(otherChannel, HmParamsetType.MASTER), is(nullValue()));
+    }
+}
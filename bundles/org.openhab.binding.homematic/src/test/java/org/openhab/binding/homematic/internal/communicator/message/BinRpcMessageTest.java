@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.message;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the decoding of messages received by the BIN-RPC server.
+ *
+ * @author agent - Initial contribution
+ */
+public class BinRpcMessageTest {
+
+    private static byte[] reusedBuffer(byte[] message) {
+        // a buffer reused for a previous, longer message
+        byte[] buffer = new byte[message.length + 64];
+        Arrays.fill(buffer, (byte) 0x7f);
+        System.arraycopy(message, 0, buffer, 0, message.length);
+        return buffer;
+    }
+
+    @Test
+    public void multicallIsDecodedCallByCall() throws IOException {
+        BinRpcMessage request = new BinRpcMessage("system.multicall", StandardCharsets.UTF_8);
+        request.addArg(List.of(Map.of("methodName", "event", "params", List.of("RF", "ABC:1", "STATE", true)),
+                Map.of("methodName", "event", "params", List.of("HmIP", "DEF:2", "LEVEL", 0.5))));
+        byte[] message = request.createMessage();
+
+        BinRpcMessage decoded = BinRpcMessage.decodeRequestHeader(reusedBuffer(message), message.length,
+                StandardCharsets.UTF_8);
+        assertThat(decoded.getMethodName(), is("system.multicall"));
+
+        List<String> methods = new ArrayList<>();
+        List<Object[]> params = new ArrayList<>();
+        decoded.decodeMulticall((method, callParams) -> {
+            methods.add(method);
+            params.add(callParams);
+        });
+
+        assertThat(methods, is(List.of("event", "event")));
+        assertThat(params.get(0), is(new Object[] { "RF", "ABC:1", "STATE", true }));
+        assertThat(params.get(1), is(new Object[] { "HmIP", "DEF:2", "LEVEL", 0.5 }));
+    }
+
+    @Test
+    public void argumentsAreDecodedFromReusedBuffer() throws IOException {
+        BinRpcMessage request = new BinRpcMessage("event", StandardCharsets.UTF_8);
+        request.addArg("RF");
+        request.addArg("ABC:1");
+        request.addArg("COUNTER");
+        request.addArg(-42);
+        byte[] message = request.createMessage();
+
+        BinRpcMessage decoded = BinRpcMessage.decodeRequestHeader(reusedBuffer(message), message.length,
+                StandardCharsets.UTF_8);
+
+        assertThat(decoded.getMethodName(), is("event"));
+        assertThat(decoded.decodeArguments(), is(new Object[] { "RF", "ABC:1", "COUNTER", -42 }));
+    }
+}
@@ -15,6 +15,7 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -117,6 +118,17 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
+    /**
+     * An index of the resource IDs which child thing handlers are interested in, i.e. their own resource ID plus the
+     * IDs of their service and scene contributors. It is a map between the resource ID and the respective handlers.
+     */
+    private final Map<String, Set<Clip2ThingHandler>> resourceIdIndex = new ConcurrentHashMap<>();
+
+    /**
+     * The resource IDs that each child thing handler has registered in the resourceIdIndex.
+     */
+    private final Map<Clip2ThingHandler, Set<String>> handlerResourceIds = new ConcurrentHashMap<>();
+
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
     private int connectRetriesRemaining;
@@ -257,6 +269,14 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    @Override
+    public void childHandlerDisposed(ThingHandler childHandler, Thing childThing) {
+        if (childHandler instanceof Clip2ThingHandler clip2ThingHandler) {
+            unregisterResourceIds(clip2ThingHandler);
+        }
+        super.childHandlerDisposed(childHandler, childThing);
+    }
+
     /**
      * Dispose the bridge handler's assets. Called from dispose() on a thread, so that dispose() itself can complete
      * faster.
@@ -509,8 +529,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers which registered an interest in the respective resource.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -533,10 +553,55 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         if (numberOfResources != resources.size()) {
             logger.debug("onResourcesEventTask() merged to {} resources", resources.size());
         }
-        getThing().getThings().forEach(thing -> {
-            if (thing.getHandler() instanceof Clip2ThingHandler clip2ThingHandler) {
-                clip2ThingHandler.onResources(resources);
+        Map<Clip2ThingHandler, List<Resource>> batches = new HashMap<>();
+        for (Resource resource : resources) {
+            Set<Clip2ThingHandler> handlers = resourceIdIndex.get(resource.getId());
+            if (Objects.nonNull(handlers)) {
+                handlers.forEach(handler -> batches.computeIfAbsent(handler, h -> new ArrayList<>()).add(resource));
             }
+        }
+        logger.debug("onResourcesEventTask() delivering resources to {} things", batches.size());
+        batches.forEach((handler, batch) -> handler.queueResources(batch));
+    }
+
+    /**
+     * Register the resource IDs which a child thing handler is interested in. It replaces any previously registered
+     * resource IDs of the handler.
+     *
+     * @param handler the child thing handler.
+     * @param resourceIds the IDs of the resources which shall be delivered to the handler.
+     */
+    public void registerResourceIds(Clip2ThingHandler handler, Set<String> resourceIds) {
+        synchronized (resourceIdIndex) {
+            // add the new IDs before removing the old ones, so that no shared ID is missing in between
+            resourceIds.forEach(id -> resourceIdIndex.computeIfAbsent(id, k -> ConcurrentHashMap.newKeySet())
+                    .add(handler));
+            Set<String> oldResourceIds = handlerResourceIds.put(handler, Set.copyOf(resourceIds));
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.stream().filter(id -> !resourceIds.contains(id))
+                        .forEach(id -> removeFromResourceIdIndex(id, handler));
+            }
+        }
+    }
+
+    /**
+     * Remove all resource IDs of a child thing handler from the index.
+     *
+     * @param handler the child thing handler.
+     */
+    private void unregisterResourceIds(Clip2ThingHandler handler) {
+        synchronized (resourceIdIndex) {
+            Set<String> oldResourceIds = handlerResourceIds.remove(handler);
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.forEach(id -> removeFromResourceIdIndex(id, handler));
+            }
+        }
+    }
+
+    private void removeFromResourceIdIndex(String resourceId, Clip2ThingHandler handler) {
+        resourceIdIndex.computeIfPresent(resourceId, (id, handlers) -> {
+            handlers.remove(handler);
+            return handlers.isEmpty() ? null : handlers;
         });
     }
 
@@ -25,12 +25,15 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -162,6 +165,12 @@ public class Clip2ThingHandler extends BaseThingHandler {
      */
     private final List<ChannelUID> legacyLinkedChannelUIDs = new CopyOnWriteArrayList<>();
 
+    /**
+     * Batches of resources delivered by the bridge handler, which are processed in order on the scheduler.
+     */
+    private final Queue<Collection<Resource>> pendingResources = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean pendingResourcesScheduled = new AtomicBoolean();
+
     private final ThingRegistry thingRegistry;
     private final ItemChannelLinkRegistry itemChannelLinkRegistry;
     private final Clip2StateDescriptionProvider stateDescriptionProvider;
@@ -266,6 +275,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
         commandResourceIds.clear();
         serviceContributorsCache.clear();
         controlIds.clear();
+        pendingResources.clear();
     }
 
     /**
@@ -624,11 +634,41 @@ public class Clip2ThingHandler extends BaseThingHandler {
         if (Objects.nonNull(bridge)) {
             BridgeHandler bridgeHandler = bridge.getHandler();
             if (bridgeHandler instanceof Clip2BridgeHandler) {
+                updateResourceIdIndex();
                 ((Clip2BridgeHandler) bridgeHandler).childInitialized();
             }
         }
     }
 
+    /**
+     * Queue a batch of resources sent from the bridge for processing on the scheduler. Batches for this thing are
+     * processed one at a time in the order they were queued, whereas batches for different things are processed
+     * concurrently.
+     *
+     * @param resources a collection of Resource objects containing the new state.
+     */
+    public void queueResources(Collection<Resource> resources) {
+        pendingResources.add(resources);
+        if (pendingResourcesScheduled.compareAndSet(false, true)) {
+            scheduler.submit(() -> processPendingResources());
+        }
+    }
+
+    private void processPendingResources() {
+        do {
+            try {
+                Collection<Resource> resources = pendingResources.poll();
+                while (Objects.nonNull(resources)) {
+                    onResources(resources);
+                    resources = pendingResources.poll();
+                }
+            } finally {
+                pendingResourcesScheduled.set(false);
+            }
+            // a batch may have been queued after the queue was found empty, but before the flag was cleared
+        } while (!pendingResources.isEmpty() && pendingResourcesScheduled.compareAndSet(false, true));
+    }
+
     /**
      * Update the channel state depending on new resources sent from the bridge.
      *
@@ -1109,6 +1149,23 @@ public class Clip2ThingHandler extends BaseThingHandler {
             commandResourceIds.clear();
             commandResourceIds.putAll(services.stream() // use a 'mergeFunction' to prevent duplicates
                     .collect(Collectors.toMap(ResourceReference::getType, ResourceReference::getId, (r1, r2) -> r1)));
+
+            updateResourceIdIndex();
+        }
+    }
+
+    /**
+     * Register the IDs of the resources that this thing is interested in with the bridge handler, i.e. its own
+     * resource ID and the IDs of its service and scene contributors. The bridge handler only delivers those resources.
+     */
+    private void updateResourceIdIndex() {
+        Set<String> resourceIds = new HashSet<>(serviceContributorsCache.keySet());
+        resourceIds.addAll(sceneContributorsCache.keySet());
+        resourceIds.add(resourceId);
+        try {
+            getBridgeHandler().registerResourceIds(this, resourceIds);
+        } catch (AssetNotLoadedException e) {
+            logger.debug("{} -> updateResourceIdIndex() {}", resourceId, e.getMessage());
         }
     }
 
@@ -1252,6 +1309,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                 logger.debug("{} -> updateSceneContributors() found {} normal resp. smart scenes", resourceId,
                         scenes.size());
             }
+            updateResourceIdIndex();
             updateSceneContributorsDone = true;
         }
         return updateSceneContributorsDone;
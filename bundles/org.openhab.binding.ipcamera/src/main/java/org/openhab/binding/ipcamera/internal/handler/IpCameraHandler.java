@@ -268,11 +268,10 @@ public class IpCameraHandler extends BaseThingHandler {
                 if (msg instanceof HttpContent content) {
                     if (mjpegUri.equals(requestUrl) && !(content instanceof LastHttpContent)) {
                         // multiple MJPEG stream packets come back as this.
-                        byte[] chunkedFrame = new byte[content.content().readableBytes()];
-                        content.content().getBytes(content.content().readerIndex(), chunkedFrame);
                         CameraServlet localServlet = servlet;
                         if (localServlet != null) {
-                            localServlet.openStreams.queueFrame(chunkedFrame);
+                            // the packet is shared by all streams without copying it
+                            localServlet.openStreams.queueFrame(content.content().retainedSlice());
                         }
                     } else {
                         // Found some cameras use Content-Type: image/jpg instead of image/jpeg
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.ipcamera.internal.servlet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * The {@link FrameRing} holds the most recent frames of a stream, so that all clients can share the same buffers.
+ * Every frame gets a sequence number and each client keeps its own read cursor. Frames are overwritten when the ring
+ * is full, so a client which can not keep up finds its cursor behind {@link #getOldestSequence()} and has to skip
+ * ahead instead of holding memory for all frames it missed.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FrameRing {
+    private final @Nullable ByteBuf[] frames;
+    private long nextSequence;
+
+    public FrameRing(int capacity) {
+        frames = new ByteBuf[capacity];
+    }
+
+    /**
+     * Adds a frame and releases the oldest frame if the ring is full.
+     *
+     * @param frame the frame, the ring takes over one reference
+     * @return the sequence number of the frame
+     */
+    public synchronized long publish(ByteBuf frame) {
+        int slot = (int) (nextSequence % frames.length);
+        ByteBuf oldFrame = frames[slot];
+        if (oldFrame != null) {
+            oldFrame.release();
+        }
+        frames[slot] = frame;
+        return nextSequence++;
+    }
+
+    /**
+     * Returns the frame with the given sequence number.
+     *
+     * @return a retained duplicate of the frame which has to be released by the caller, <code>null</code> if the
+     *         frame has not been published yet or has already been overwritten
+     */
+    public synchronized @Nullable ByteBuf read(long sequence) {
+        if (sequence < getOldestSequence() || sequence >= nextSequence) {
+            return null;
+        }
+        ByteBuf frame = frames[(int) (sequence % frames.length)];
+        return frame == null ? null : frame.retainedDuplicate();
+    }
+
+    /**
+     * Returns the sequence number the next published frame will get.
+     */
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * Returns the sequence number of the oldest frame which is still available.
+     */
+    public synchronized long getOldestSequence() {
+        return Math.max(0, nextSequence - frames.length);
+    }
+
+    /**
+     * Releases all frames. The sequence numbers are not reset, so cursors of clients stay valid.
+     */
+    public synchronized void clear() {
+        for (int i = 0; i < frames.length; i++) {
+            ByteBuf frame = frames[i];
+            if (frame != null) {
+                frame.release();
+                frames[i] = null;
+            }
+        }
+    }
+}
@@ -13,55 +13,96 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.servlet.AsyncContext;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
- * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
+ * The {@link OpenStreams} Keeps track of all open mjpeg streams so the frames can be shared by all streams to allow
+ * 1 to many streams without needing to open more than 1 source stream. The frames are kept in a single
+ * {@link FrameRing} and every stream writes them out asynchronously from its own position in the ring.
  *
  * @author Matthew Skinner - Initial contribution
  */
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<>());
+    private static final int FRAME_RING_SIZE = 64;
+
+    private final List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
+    private final FrameRing frames = new FrameRing(FRAME_RING_SIZE);
     public String boundary = "thisMjpegStream";
 
-    public synchronized void addStream(StreamOutput stream) {
+    public void addStream(StreamOutput stream) {
         openStreams.add(stream);
     }
 
-    public synchronized void removeStream(StreamOutput stream) {
+    /**
+     * Adds a stream which asynchronously writes out all frames queued from now on.
+     *
+     * @param stream the stream
+     * @param asyncContext the started async context of the request
+     * @param closeListener called when the stream has been closed by the client or failed
+     */
+    public void startStream(StreamOutput stream, AsyncContext asyncContext, Consumer<StreamOutput> closeListener) {
+        openStreams.add(stream);
+        stream.startAsync(asyncContext, frames, closeListener);
+    }
+
+    public void removeStream(StreamOutput stream) {
         openStreams.remove(stream);
+        if (openStreams.isEmpty()) {
+            frames.clear();
+        }
     }
 
-    public synchronized int getNumberOfStreams() {
+    public int getNumberOfStreams() {
         return openStreams.size();
     }
 
-    public synchronized boolean isEmpty() {
+    public boolean isEmpty() {
         return openStreams.isEmpty();
     }
 
-    public synchronized void updateContentType(String contentType, String boundary) {
+    public void updateContentType(String contentType, String boundary) {
         this.boundary = boundary;
         for (StreamOutput stream : openStreams) {
             stream.updateContentType(contentType);
         }
     }
 
-    public synchronized void queueFrame(byte[] frame) {
+    /**
+     * Queues a frame for all streams.
+     *
+     * @param frame the frame, the streams take over one reference
+     */
+    public void queueFrame(ByteBuf frame) {
+        if (openStreams.isEmpty()) {
+            frame.release();
+            return;
+        }
+        frames.publish(frame);
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            stream.framesAvailable();
         }
     }
 
-    public synchronized void closeAllStreams() {
-        for (StreamOutput stream : openStreams) {
+    public void queueFrame(byte[] frame) {
+        queueFrame(Unpooled.wrappedBuffer(frame));
+    }
+
+    public void closeAllStreams() {
+        List<StreamOutput> streams = new ArrayList<>(openStreams);
+        openStreams.clear();
+        for (StreamOutput stream : streams) {
             stream.close();
         }
-        openStreams.clear();
+        frames.clear();
     }
 }
@@ -13,16 +13,24 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
 /**
  * The {@link StreamOutput} Streams mjpeg out to a client
  *
@@ -30,15 +38,25 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class StreamOutput {
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
     private final String boundary;
     private String contentType;
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<>(50);
     private boolean connected = false;
     public boolean isSnapshotBased = false;
 
+    // asynchronous output of frames from a FrameRing, guarded by this
+    private @Nullable AsyncContext asyncContext;
+    private @Nullable FrameRing frames;
+    private @Nullable Consumer<StreamOutput> closeListener;
+    private long cursor;
+    private final Deque<ByteBuf> pendingSegments = new ArrayDeque<>();
+    private byte[] writeBuffer = new byte[0];
+    private boolean closed = false;
+
     public StreamOutput(HttpServletResponse response) throws IOException {
         boundary = "thisMjpegStream";
         contentType = "multipart/x-mixed-replace; boundary=" + boundary;
@@ -74,30 +92,119 @@ public class StreamOutput {
         output.write("\r\n".getBytes());
     }
 
-    public void queueFrame(byte[] frame) {
+    /**
+     * Starts writing the frames of the ring asynchronously, beginning with the next frame published.
+     */
+    synchronized void startAsync(AsyncContext asyncContext, FrameRing frames, Consumer<StreamOutput> closeListener) {
+        this.asyncContext = asyncContext;
+        this.frames = frames;
+        this.closeListener = closeListener;
+        cursor = frames.getNextSequence();
+        output.setWriteListener(new WriteListener() {
+            @Override
+            public void onWritePossible() throws IOException {
+                writeFrames();
+            }
+
+            @Override
+            public void onError(@Nullable Throwable t) {
+                logger.debug("Stream to client failed: {}", t == null ? "" : t.getMessage());
+                fail();
+            }
+        });
+    }
+
+    public void updateContentType(String contentType) {
+        synchronized (this) {
+            this.contentType = contentType;
+            if (!connected) {
+                sendInitialHeaders();
+                connected = true;
+            }
+        }
+        framesAvailable();
+    }
+
+    /**
+     * Writes the available frames without blocking, called whenever a new frame has been published.
+     */
+    void framesAvailable() {
         try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space: {}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+            writeFrames();
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Stream to client failed: {}", e.getMessage());
+            fail();
         }
     }
 
-    public void updateContentType(String contentType) {
-        this.contentType = contentType;
-        if (!connected) {
-            sendInitialHeaders();
-            connected = true;
+    /**
+     * Writes frames as long as the output accepts data without blocking. If it does not, the container calls
+     * {@link WriteListener#onWritePossible()} once the client has received the data. The container may still hold the
+     * written array after write returns, so the shared frames are copied into a buffer of this stream which is only
+     * reused once the output is ready again.
+     */
+    private synchronized void writeFrames() throws IOException {
+        FrameRing localFrames = frames;
+        if (closed || localFrames == null || (!connected && !isSnapshotBased)) {
+            return;
+        }
+        while (output.isReady()) {
+            ByteBuf segment = pendingSegments.poll();
+            if (segment == null) {
+                if (!queueNextFrame(localFrames)) {
+                    return;
+                }
+                continue;
+            }
+            int length = segment.readableBytes();
+            try {
+                if (writeBuffer.length < length) {
+                    writeBuffer = new byte[length];
+                }
+                segment.getBytes(segment.readerIndex(), writeBuffer, 0, length);
+            } finally {
+                segment.release();
+            }
+            output.write(writeBuffer, 0, length);
         }
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
+    /**
+     * Takes the next frame from the ring and queues the segments to send for it.
+     *
+     * @return <code>false</code> if there is no new frame
+     */
+    private boolean queueNextFrame(FrameRing localFrames) {
+        ByteBuf frame = localFrames.read(cursor);
+        while (frame == null && cursor < localFrames.getNextSequence()) {
+            // the client is too slow and frames have been overwritten, snapshot based streams jump to the newest frame
+            long skipTo = isSnapshotBased ? localFrames.getNextSequence() - 1 : localFrames.getOldestSequence();
+            logger.debug("Client is too slow, skipping {} frames", skipTo - cursor);
+            cursor = skipTo;
+            frame = localFrames.read(cursor);
+        }
+        if (frame == null) {
+            return false;
+        }
+        cursor++;
         if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+            byte[] header = ("--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
+                    + frame.readableBytes() + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII);
+            if (!connected) {
+                sendInitialHeaders();
+                // iOS needs to have two jpgs sent for the picture to appear instantly.
+                pendingSegments.add(Unpooled.wrappedBuffer(header));
+                pendingSegments.add(frame.retainedDuplicate());
+                pendingSegments.add(Unpooled.wrappedBuffer(CRLF));
+                connected = true;
+            }
+            pendingSegments.add(Unpooled.wrappedBuffer(header));
+            pendingSegments.add(frame);
+            pendingSegments.add(Unpooled.wrappedBuffer(CRLF));
+        } else {
+            pendingSegments.add(frame);
         }
+        return true;
     }
 
     private void sendInitialHeaders() {
@@ -106,10 +213,35 @@ public class StreamOutput {
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
-    public void close() {
+    /**
+     * Closes the stream after the client disconnected or writing failed and notifies the close listener.
+     */
+    private void fail() {
+        Consumer<StreamOutput> listener;
+        synchronized (this) {
+            listener = closed ? null : closeListener;
+            close();
+        }
+        if (listener != null) {
+            listener.accept(this);
+        }
+    }
+
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pendingSegments.forEach(ByteBuf::release);
+        pendingSegments.clear();
+        AsyncContext localAsyncContext = asyncContext;
         try {
-            output.close();
-        } catch (IOException e) {
+            if (localAsyncContext != null) {
+                localAsyncContext.complete();
+            } else {
+                output.close();
+            }
+        } catch (IOException | IllegalStateException e) {
         }
     }
 }
@@ -15,10 +15,7 @@ package org.openhab.binding.knx.internal.client;
 import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -42,6 +39,7 @@ import tuwien.auto.calimero.DetachEvent;
 import tuwien.auto.calimero.FrameEvent;
 import tuwien.auto.calimero.GroupAddress;
 import tuwien.auto.calimero.IndividualAddress;
+import tuwien.auto.calimero.KNXAckTimeoutException;
 import tuwien.auto.calimero.KNXException;
 import tuwien.auto.calimero.KNXIllegalArgumentException;
 import tuwien.auto.calimero.datapoint.CommandDP;
@@ -86,9 +84,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
     private final ThingUID thingUID;
     private final int responseTimeout;
-    private final int readingPause;
     private final int autoReconnectPeriod;
-    private final int readRetriesLimit;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
     private final CommandExtensionData commandExtensionData;
@@ -102,8 +98,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressRouter groupAddressRouter;
+    private final ReadScheduler readScheduler;
+    // incremented on every disconnect, so a read job of a previous connection does not schedule itself again
+    private int readJobGeneration = 0;
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -143,11 +141,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
-        this.readingPause = readingPause;
-        this.readRetriesLimit = readRetriesLimit;
+        this.readScheduler = new ReadScheduler(readingPause, readRetriesLimit);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
+        this.groupAddressRouter = new GroupAddressRouter(knxScheduler);
     }
 
     public void initialize() {
@@ -243,8 +241,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
             link.addLinkListener(this);
 
             // create a job carrying out read requests
-            busJob = knxScheduler.scheduleWithFixedDelay(this::readNextQueuedDatapoint, 0, readingPause,
-                    TimeUnit.MILLISECONDS);
+            scheduleNextRead(readJobGeneration, 0);
 
             statusUpdateCallback.updateStatus(ThingStatus.ONLINE);
             connectJob = null;
@@ -298,8 +295,11 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (tmplink != null) {
             tmplink.removeLinkListener(this);
         }
+        synchronized (this) {
+            readJobGeneration++;
+        }
         busJob = nullify(busJob, j -> j.cancel(true));
-        readDatapoints.clear();
+        readScheduler.clear();
         responseCommunicator = nullify(responseCommunicator, rc -> {
             rc.removeProcessListener(processListener);
             rc.detach();
@@ -327,13 +327,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        boolean isHandled = groupAddressRouter.dispatch(destination,
+                listener -> action.apply(listener, source, destination, asdu));
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -349,43 +344,72 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
-    private void readNextQueuedDatapoint() {
+    private synchronized void scheduleNextRead(int generation, long delayMillis) {
+        if (generation == readJobGeneration && link != null) {
+            busJob = knxScheduler.schedule(() -> readNextQueuedDatapoint(generation), delayMillis,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void readNextQueuedDatapoint(int generation) {
+        long delay = readScheduler.getIdlePause();
+        try {
+            delay = readNextQueuedDatapoint();
+        } finally {
+            scheduleNextRead(generation, delay);
+        }
+    }
+
+    /**
+     * Reads the next queued datapoint.
+     *
+     * @return the pause in milliseconds before the next read
+     */
+    private long readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
-            return;
+            return readScheduler.getIdlePause();
         }
         ProcessCommunicator processCommunicator = this.processCommunicator;
         if (processCommunicator == null) {
-            return;
+            return readScheduler.getIdlePause();
         }
-        ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
-            datapoint.incrementRetries();
-            try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
-                // KnxIllegArgumentException
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-                }
-            } catch (InterruptedException | CancellationException e) {
-                logger.debug("Interrupted sending KNX read request");
-            } catch (Exception e) {
-                // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
-                // Not catching this would end the scheduled read for all DPs in case of an error.
-                // Severity is warning as this is likely caused by a configuration error.
-                logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
-                        e.getMessage());
+        ReadDatapoint datapoint = readScheduler.poll();
+        if (datapoint == null) {
+            return readScheduler.getIdlePause();
+        }
+        datapoint.incrementRetries();
+        try {
+            logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+            processCommunicator.read(datapoint.getDatapoint());
+            readScheduler.acknowledged();
+        } catch (KNXException e) {
+            // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
+            // KnxIllegArgumentException
+            if (e instanceof KNXAckTimeoutException) {
+                // the interface did not confirm the request in time, give the bus more room
+                readScheduler.congested();
+            }
+            if (readScheduler.retry(datapoint)) {
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
+                        datapoint.getDatapoint().getMainAddress(), e.getMessage());
+            } else {
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
             }
+        } catch (InterruptedException | CancellationException e) {
+            logger.debug("Interrupted sending KNX read request");
+        } catch (Exception e) {
+            // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
+            // Not catching this would end the scheduled read for all DPs in case of an error.
+            // Severity is warning as this is likely caused by a configuration error.
+            logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(), e.getMessage());
         }
+        Duration timeToFullState = readScheduler.readDone();
+        if (timeToFullState != null) {
+            logger.info("Bridge {} finished the initial reads in {} s", thingUID,
+                    timeToFullState.toMillis() / 1000.0);
+        }
+        return readScheduler.getPause();
     }
 
     public void dispose() {
@@ -456,23 +480,23 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, boolean priority) {
+        readScheduler.add(datapoint, priority);
+    }
+
+    @Override
+    public ReadScheduler.@Nullable Statistics getReadStatistics() {
+        return readScheduler.getStatistics();
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressRouter.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressRouter.unregister(listener);
     }
 
     @Override
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressRouter} routes incoming telegrams to the {@link GroupAddressListener}s interested in their
+ * destination.
+ *
+ * Listeners are indexed by the group addresses they report at registration, so finding the listeners for a telegram
+ * does not depend on the number of registered listeners. Registering a listener again updates its group addresses.
+ * Each listener has its own queue, so the telegrams for one listener are handled one after the other in the order
+ * they were received, while different listeners are handled in parallel.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class GroupAddressRouter {
+    // limit the number of telegrams handled in one go, so a busy listener does not block a thread for too long
+    private static final int MAX_TASKS_PER_RUN = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressRouter.class);
+
+    private final Executor executor;
+    private final Map<GroupAddressListener, ListenerQueue> listeners = new ConcurrentHashMap<>();
+    private final Map<GroupAddress, Set<GroupAddressListener>> index = new ConcurrentHashMap<>();
+
+    public GroupAddressRouter(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Registers a listener for the group addresses returned by {@link GroupAddressListener#getGroupAddresses()}, or
+     * updates the group addresses of an already registered listener.
+     *
+     * @param listener the listener
+     */
+    public synchronized void register(GroupAddressListener listener) {
+        ListenerQueue queue = listeners.computeIfAbsent(listener, l -> new ListenerQueue());
+        Set<GroupAddress> addresses = Set.copyOf(listener.getGroupAddresses());
+        for (GroupAddress address : queue.addresses) {
+            if (!addresses.contains(address)) {
+                removeFromIndex(address, listener);
+            }
+        }
+        for (GroupAddress address : addresses) {
+            index.computeIfAbsent(address, k -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+        queue.addresses = addresses;
+    }
+
+    /**
+     * Removes a listener. Telegrams already queued for the listener are still delivered.
+     *
+     * @param listener the listener
+     */
+    public synchronized void unregister(GroupAddressListener listener) {
+        ListenerQueue queue = listeners.remove(listener);
+        if (queue != null) {
+            queue.addresses.forEach(address -> removeFromIndex(address, listener));
+        }
+    }
+
+    private void removeFromIndex(GroupAddress address, GroupAddressListener listener) {
+        index.computeIfPresent(address, (k, set) -> {
+            set.remove(listener);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * Queues an action for every listener interested in the given group address.
+     *
+     * @param destination the destination of the telegram
+     * @param action the action to perform on each listener
+     * @return <code>true</code> if at least one listener is interested in the group address
+     */
+    public boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> action) {
+        Set<GroupAddressListener> candidates = index.get(destination);
+        if (candidates == null) {
+            return false;
+        }
+        boolean handled = false;
+        for (GroupAddressListener listener : candidates) {
+            ListenerQueue queue = listeners.get(listener);
+            // the listener may have dropped the group address since it was registered
+            if (queue != null && listener.listensTo(destination)) {
+                handled = true;
+                queue.submit(() -> action.accept(listener));
+            }
+        }
+        return handled;
+    }
+
+    public int getListenerCount() {
+        return listeners.size();
+    }
+
+    public int getGroupAddressCount() {
+        return index.size();
+    }
+
+    private class ListenerQueue implements Runnable {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Set<GroupAddress> addresses = Set.of();
+
+        void submit(Runnable task) {
+            tasks.add(task);
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < MAX_TASKS_PER_RUN; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to handle KNX telegram: {}", e.getMessage(), e);
+                }
+            }
+            scheduled.set(false);
+            // re-check, a task may have been added after the last poll
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+    }
+}
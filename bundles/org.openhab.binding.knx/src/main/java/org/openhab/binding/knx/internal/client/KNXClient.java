@@ -61,7 +61,8 @@ public interface KNXClient {
     void restartNetworkDevice(@Nullable IndividualAddress address);
 
     /**
-     * Register the given listener to be informed on KNX bus traffic.
+     * Register the given listener to be informed on KNX bus traffic. Registering an already registered listener
+     * updates the group addresses it is informed about.
      *
      * @param listener the listener
      */
@@ -78,8 +79,17 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority {@code true} to read the data point before the reads without priority, e.g. when refreshing a
+     *            channel
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, boolean priority);
+
+    /**
+     * Get statistics about the read requests.
+     *
+     * @return the statistics, {@code null} if the client does not read from the bus
+     */
+    ReadScheduler.@Nullable Statistics getReadStatistics();
 
     /**
      * Write a command to the KNX bus.
@@ -57,7 +57,12 @@ public class NoOpClient implements KNXClient {
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
+    public void readDatapoint(Datapoint datapoint, boolean priority) {
+    }
+
+    @Override
+    public ReadScheduler.@Nullable Statistics getReadStatistics() {
+        return null;
     }
 
     @Override
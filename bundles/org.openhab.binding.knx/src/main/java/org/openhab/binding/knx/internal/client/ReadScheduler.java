@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * The {@link ReadScheduler} holds the datapoints waiting to be read from the KNX bus and decides how long to pause
+ * between two read requests.
+ *
+ * There is at most one queued read per group address. Reads requested by the user (e.g. a refresh or a newly linked
+ * channel) go to a priority lane which is served before the bulk reads done after startup and by periodic polling.
+ * A read requested with priority for a group address already queued in the normal lane is moved to the priority lane.
+ *
+ * The pause between two reads adapts to the bus: it shrinks after each acknowledged read request down to a quarter of
+ * the configured reading pause and doubles (up to eight times the configured pause) when the interface does not
+ * acknowledge a request in time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadScheduler {
+
+    /**
+     * Statistics about the read requests, e.g. for the console.
+     *
+     * @param queued the number of queued reads
+     * @param priorityQueued the number of queued reads in the priority lane
+     * @param sent the number of acknowledged read requests
+     * @param retries the number of read requests which were queued again after a failure
+     * @param failed the number of reads given up after the maximum number of retries
+     * @param pauseMillis the current pause between two reads
+     * @param timeToFullState the time from the first queued read after connecting until the queue was empty,
+     *            <code>null</code> while the initial reads are still ongoing
+     */
+    public record Statistics(int queued, int priorityQueued, long sent, long retries, long failed, long pauseMillis,
+            @Nullable Duration timeToFullState) {
+    }
+
+    private final int readRetriesLimit;
+    private final long nominalPause;
+    private final long minPause;
+    private final long maxPause;
+    private final LongSupplier nanoClock;
+
+    private final Deque<ReadDatapoint> priorityLane = new ArrayDeque<>();
+    private final Deque<ReadDatapoint> normalLane = new ArrayDeque<>();
+    private final Map<GroupAddress, ReadDatapoint> queued = new HashMap<>();
+
+    private long pause;
+    private long sent = 0;
+    private long retries = 0;
+    private long failed = 0;
+    private long startNanos = -1;
+    private boolean fullStateReached = false;
+    private @Nullable Duration timeToFullState;
+
+    public ReadScheduler(int readingPause, int readRetriesLimit) {
+        this(readingPause, readRetriesLimit, System::nanoTime);
+    }
+
+    ReadScheduler(int readingPause, int readRetriesLimit, LongSupplier nanoClock) {
+        this.readRetriesLimit = readRetriesLimit;
+        this.nominalPause = Math.max(1, readingPause);
+        this.minPause = Math.max(1, nominalPause / 4);
+        this.maxPause = nominalPause * 8;
+        this.nanoClock = nanoClock;
+        this.pause = nominalPause;
+    }
+
+    /**
+     * Queues a datapoint for reading, unless a read of its group address is already queued.
+     *
+     * @param datapoint the datapoint
+     * @param priority <code>true</code> to read the datapoint before all reads without priority
+     * @return <code>true</code> if the datapoint was queued or moved to the priority lane
+     */
+    public synchronized boolean add(Datapoint datapoint, boolean priority) {
+        GroupAddress address = datapoint.getMainAddress();
+        ReadDatapoint existing = queued.get(address);
+        if (existing != null && (existing.isPriority() || !priority)) {
+            return false;
+        }
+        // a promoted read stays in the normal lane as well, it is skipped there as it is no longer in the map
+        ReadDatapoint readDatapoint = new ReadDatapoint(datapoint, readRetriesLimit, priority);
+        queued.put(address, readDatapoint);
+        (priority ? priorityLane : normalLane).add(readDatapoint);
+        if (startNanos < 0 && !fullStateReached) {
+            startNanos = nanoClock.getAsLong();
+        }
+        return true;
+    }
+
+    /**
+     * Takes the next datapoint to read, from the priority lane first.
+     *
+     * @return the datapoint, <code>null</code> if nothing is queued
+     */
+    public synchronized @Nullable ReadDatapoint poll() {
+        ReadDatapoint next = poll(priorityLane);
+        return next != null ? next : poll(normalLane);
+    }
+
+    private @Nullable ReadDatapoint poll(Deque<ReadDatapoint> lane) {
+        ReadDatapoint next;
+        while ((next = lane.poll()) != null) {
+            GroupAddress address = next.getDatapoint().getMainAddress();
+            if (queued.get(address) == next) {
+                queued.remove(address);
+                return next;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Queues a datapoint again after a failed read, if its retry limit is not reached and its group address is not
+     * queued anyway.
+     *
+     * @param datapoint the datapoint
+     * @return <code>true</code> if the datapoint will be read again
+     */
+    public synchronized boolean retry(ReadDatapoint datapoint) {
+        if (datapoint.getRetries() >= datapoint.getLimit()) {
+            failed++;
+            return false;
+        }
+        GroupAddress address = datapoint.getDatapoint().getMainAddress();
+        if (queued.putIfAbsent(address, datapoint) == null) {
+            (datapoint.isPriority() ? priorityLane : normalLane).add(datapoint);
+            retries++;
+        }
+        return true;
+    }
+
+    /**
+     * Called when a read request was acknowledged, shortens the pause.
+     */
+    public synchronized void acknowledged() {
+        sent++;
+        pause = Math.max(minPause, pause - Math.max(1, pause / 4));
+    }
+
+    /**
+     * Called when the interface did not acknowledge a read request in time, lengthens the pause.
+     */
+    public synchronized void congested() {
+        pause = Math.min(maxPause, pause * 2);
+    }
+
+    /**
+     * Called after a read was handled. Checks if all reads queued since connecting are done.
+     *
+     * @return the time to full state if it was reached with this read, <code>null</code> otherwise
+     */
+    public synchronized @Nullable Duration readDone() {
+        if (queued.isEmpty() && startNanos >= 0 && !fullStateReached) {
+            Duration duration = Duration.ofNanos(nanoClock.getAsLong() - startNanos);
+            timeToFullState = duration;
+            fullStateReached = true;
+            startNanos = -1;
+            return duration;
+        }
+        return null;
+    }
+
+    /**
+     * @return the pause in milliseconds before the next read
+     */
+    public synchronized long getPause() {
+        return pause;
+    }
+
+    /**
+     * @return the pause in milliseconds before checking for new reads if nothing is queued
+     */
+    public long getIdlePause() {
+        return nominalPause;
+    }
+
+    /**
+     * Removes all queued reads and restarts the time to full state measurement, e.g. after a reconnect.
+     */
+    public synchronized void clear() {
+        priorityLane.clear();
+        normalLane.clear();
+        queued.clear();
+        pause = nominalPause;
+        startNanos = -1;
+        fullStateReached = false;
+    }
+
+    public synchronized Statistics getStatistics() {
+        int priorityQueued = (int) queued.values().stream().filter(ReadDatapoint::isPriority).count();
+        return new Statistics(queued.size(), priorityQueued, sent, retries, failed, pause, timeToFullState);
+    }
+}
@@ -12,12 +12,14 @@
  */
 package org.openhab.binding.knx.internal.console;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map.Entry;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.ReadScheduler;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -39,7 +41,9 @@ import org.osgi.service.component.annotations.Reference;
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_READ_STATISTICS = "read-statistics";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_READ_STATISTICS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -60,14 +64,33 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
                 }
             }
             return;
+        } else if (args.length == 1 && CMD_READ_STATISTICS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                ReadScheduler.Statistics statistics = bridgeHandler.getReadStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\":");
+                if (statistics == null) {
+                    console.println("  not reading from the bus");
+                    continue;
+                }
+                Duration timeToFullState = statistics.timeToFullState();
+                console.println("  queued reads: " + statistics.queued() + " (" + statistics.priorityQueued()
+                        + " with priority)");
+                console.println("  sent: " + statistics.sent() + ", retried: " + statistics.retries() + ", failed: "
+                        + statistics.failed());
+                console.println("  current pause: " + statistics.pauseMillis() + " ms");
+                console.println("  time to full state: "
+                        + (timeToFullState == null ? "initial reads ongoing" : timeToFullState.toMillis() + " ms"));
+            }
+            return;
         }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_READ_STATISTICS, "show statistics about read requests to the bus"));
     }
 
     @Override
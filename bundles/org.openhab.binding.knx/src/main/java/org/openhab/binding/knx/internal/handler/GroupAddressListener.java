@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -33,4 +35,12 @@ public interface GroupAddressListener extends BusMessageListener {
      * @param destination
      */
     boolean listensTo(GroupAddress destination);
+
+    /**
+     * Returns the GroupAddresses the GroupAddressListener has an interest in. The KNX client uses them to route
+     * telegrams, the listener has to register again if they change.
+     *
+     * @return the group addresses
+     */
+    Set<GroupAddress> getGroupAddresses();
 }
@@ -20,6 +20,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.KNXClient;
+import org.openhab.binding.knx.internal.client.ReadScheduler;
 import org.openhab.binding.knx.internal.client.StatusUpdateCallback;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.Bridge;
@@ -90,6 +91,10 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
         return commandExtensionData;
     }
 
+    public ReadScheduler.@Nullable Statistics getReadStatistics() {
+        return getClient().getReadStatistics();
+    }
+
     /***
      * Initialize KNX secure if configured (full interface)
      *
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.IndividualAddress;
+
+/**
+ * Tests the {@link GroupAddressRouter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressRouterTest {
+
+    private static final GroupAddress GA1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA3 = new GroupAddress(1, 2, 5);
+
+    private static class TestListener implements GroupAddressListener {
+        private final Set<GroupAddress> groupAddresses = ConcurrentHashMap.newKeySet();
+        private final List<GroupAddress> received = new ArrayList<>();
+
+        TestListener(GroupAddress... groupAddresses) {
+            this.groupAddresses.addAll(List.of(groupAddresses));
+        }
+
+        @Override
+        public boolean listensTo(GroupAddress destination) {
+            return groupAddresses.contains(destination);
+        }
+
+        @Override
+        public Set<GroupAddress> getGroupAddresses() {
+            return groupAddresses;
+        }
+
+        @Override
+        public void onGroupWrite(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupRead(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+
+        @Override
+        public void onGroupReadResponse(AbstractKNXClient client, IndividualAddress source, GroupAddress destination,
+                byte[] asdu) {
+        }
+    }
+
+    @Test
+    void dispatchReachesOnlyInterestedListeners() {
+        GroupAddressRouter router = new GroupAddressRouter(Runnable::run);
+        TestListener listener1 = new TestListener(GA1, GA2);
+        TestListener listener2 = new TestListener(GA2);
+        router.register(listener1);
+        router.register(listener2);
+
+        assertTrue(router.dispatch(GA1, l -> ((TestListener) l).received.add(GA1)));
+        assertTrue(router.dispatch(GA2, l -> ((TestListener) l).received.add(GA2)));
+        assertFalse(router.dispatch(GA3, l -> ((TestListener) l).received.add(GA3)));
+
+        assertEquals(List.of(GA1, GA2), listener1.received);
+        assertEquals(List.of(GA2), listener2.received);
+        assertEquals(2, router.getGroupAddressCount());
+    }
+
+    @Test
+    void registerAgainUpdatesGroupAddresses() {
+        GroupAddressRouter router = new GroupAddressRouter(Runnable::run);
+        TestListener listener = new TestListener(GA1);
+        router.register(listener);
+
+        listener.groupAddresses.clear();
+        listener.groupAddresses.add(GA2);
+        router.register(listener);
+
+        assertFalse(router.dispatch(GA1, l -> ((TestListener) l).received.add(GA1)));
+        assertTrue(router.dispatch(GA2, l -> ((TestListener) l).received.add(GA2)));
+        assertEquals(1, router.getListenerCount());
+        assertEquals(1, router.getGroupAddressCount());
+
+        router.unregister(listener);
+        assertFalse(router.dispatch(GA2, l -> ((TestListener) l).received.add(GA2)));
+        assertEquals(0, router.getGroupAddressCount());
+    }
+
+    @Test
+    void telegramsForOneListenerAreHandledInOrder() {
+        List<Runnable> executed = new ArrayList<>();
+        GroupAddressRouter router = new GroupAddressRouter(executed::add);
+        TestListener listener = new TestListener(GA1, GA2);
+        router.register(listener);
+
+        router.dispatch(GA1, l -> ((TestListener) l).received.add(GA1));
+        router.dispatch(GA2, l -> ((TestListener) l).received.add(GA2));
+
+        // both telegrams are handled by a single task of the listener's queue
+        assertEquals(1, executed.size());
+        executed.get(0).run();
+        assertEquals(List.of(GA1, GA2), listener.received);
+    }
+}
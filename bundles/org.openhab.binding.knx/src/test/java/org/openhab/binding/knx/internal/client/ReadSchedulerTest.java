@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+import tuwien.auto.calimero.datapoint.Datapoint;
+
+/**
+ * Tests the {@link ReadScheduler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadSchedulerTest {
+
+    private static Datapoint datapoint(int sub) {
+        return new CommandDP(new GroupAddress(1, 1, sub), "test", 0, "1.001");
+    }
+
+    private static GroupAddress next(ReadScheduler scheduler) {
+        ReadDatapoint readDatapoint = scheduler.poll();
+        assertNotNull(readDatapoint);
+        return readDatapoint.getDatapoint().getMainAddress();
+    }
+
+    @Test
+    void readsAreDeduplicatedAndPrioritized() {
+        ReadScheduler scheduler = new ReadScheduler(50, 3);
+        assertTrue(scheduler.add(datapoint(1), false));
+        assertTrue(scheduler.add(datapoint(2), false));
+        assertFalse(scheduler.add(datapoint(1), false));
+        // promoted to the priority lane
+        assertTrue(scheduler.add(datapoint(2), true));
+        assertFalse(scheduler.add(datapoint(2), true));
+        assertTrue(scheduler.add(datapoint(3), true));
+
+        assertEquals(3, scheduler.getStatistics().queued());
+        assertEquals(2, scheduler.getStatistics().priorityQueued());
+        assertEquals(new GroupAddress(1, 1, 2), next(scheduler));
+        assertEquals(new GroupAddress(1, 1, 3), next(scheduler));
+        assertEquals(new GroupAddress(1, 1, 1), next(scheduler));
+        assertNull(scheduler.poll());
+    }
+
+    @Test
+    void retryStopsAtLimit() {
+        ReadScheduler scheduler = new ReadScheduler(50, 2);
+        scheduler.add(datapoint(1), false);
+        ReadDatapoint readDatapoint = scheduler.poll();
+        assertNotNull(readDatapoint);
+
+        readDatapoint.incrementRetries();
+        assertTrue(scheduler.retry(readDatapoint));
+        assertSame(readDatapoint, scheduler.poll());
+        readDatapoint.incrementRetries();
+        assertFalse(scheduler.retry(readDatapoint));
+        assertNull(scheduler.poll());
+        assertEquals(1, scheduler.getStatistics().retries());
+        assertEquals(1, scheduler.getStatistics().failed());
+    }
+
+    @Test
+    void pauseAdaptsToAcknowledgements() {
+        ReadScheduler scheduler = new ReadScheduler(100, 3);
+        assertEquals(100, scheduler.getPause());
+        for (int i = 0; i < 20; i++) {
+            scheduler.acknowledged();
+        }
+        assertEquals(25, scheduler.getPause());
+        for (int i = 0; i < 20; i++) {
+            scheduler.congested();
+        }
+        assertEquals(800, scheduler.getPause());
+        scheduler.clear();
+        assertEquals(100, scheduler.getPause());
+    }
+
+    @Test
+    void timeToFullStateIsMeasuredOnce() {
+        AtomicLong clock = new AtomicLong(0);
+        ReadScheduler scheduler = new ReadScheduler(50, 3, clock::get);
+        scheduler.add(datapoint(1), false);
+        scheduler.add(datapoint(2), false);
+
+        clock.set(1_000_000_000L);
+        scheduler.poll();
+        assertNull(scheduler.readDone());
+        clock.set(3_000_000_000L);
+        scheduler.poll();
+        assertEquals(Duration.ofSeconds(3), scheduler.readDone());
+
+        // later reads do not change the measurement
+        scheduler.add(datapoint(3), false);
+        scheduler.poll();
+        assertNull(scheduler.readDone());
+        assertEquals(Duration.ofSeconds(3), scheduler.getStatistics().timeToFullState());
+    }
+}
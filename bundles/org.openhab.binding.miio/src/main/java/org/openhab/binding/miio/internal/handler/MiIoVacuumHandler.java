@@ -25,6 +25,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -51,6 +52,8 @@ import org.openhab.binding.miio.internal.robot.FanModeType;
 import org.openhab.binding.miio.internal.robot.HistoryRecordDTO;
 import org.openhab.binding.miio.internal.robot.RRMapDraw;
 import org.openhab.binding.miio.internal.robot.RRMapDrawOptions;
+import org.openhab.binding.miio.internal.robot.RRMapFileParser;
+import org.openhab.binding.miio.internal.robot.RRMapLayerCache;
 import org.openhab.binding.miio.internal.robot.RobotCababilities;
 import org.openhab.binding.miio.internal.robot.StatusDTO;
 import org.openhab.binding.miio.internal.robot.StatusType;
@@ -120,6 +123,9 @@ public class MiIoVacuumHandler extends MiIoAbstractHandler {
     private ConcurrentHashMap<RobotCababilities, Boolean> deviceCapabilities = new ConcurrentHashMap<>();
     private ChannelTypeRegistry channelTypeRegistry;
     private RRMapDrawOptions mapDrawOptions = new RRMapDrawOptions();
+    private final RRMapLayerCache mapLayerCache = new RRMapLayerCache();
+    private byte[] lastMapDigest = new byte[0];
+    private State lastMapState = UnDefType.UNDEF;
 
     public MiIoVacuumHandler(Thing thing, MiIoDatabaseWatchService miIoDatabaseWatchService,
             CloudConnector cloudConnector, ChannelTypeRegistry channelTypeRegistry, TranslationProvider i18nProvider,
@@ -665,6 +671,11 @@ public class MiIoVacuumHandler extends MiIoAbstractHandler {
         hasChannelStructure = false;
         this.mapDrawOptions = RRMapDrawOptions
                 .getOptionsFromFile(BINDING_USERDATA_PATH + File.separator + "mapConfig.json", logger);
+        synchronized (mapLayerCache) {
+            mapLayerCache.clear();
+            lastMapDigest = new byte[0];
+            lastMapState = UnDefType.UNDEF;
+        }
         updateState(RobotCababilities.SEGMENT_CLEAN.getChannel(), new StringType("-"));
         cloudConnector.getHomeLists();
     }
@@ -847,22 +858,34 @@ public class MiIoVacuumHandler extends MiIoAbstractHandler {
                 final @Nullable RawType mapDl = cloudConnector.getMap(map, configuration.cloudServer);
                 if (mapDl != null) {
                     byte[] mapData = mapDl.getBytes();
-                    RRMapDraw rrMap = RRMapDraw.loadImage(new ByteArrayInputStream(mapData));
-                    rrMap.setDrawOptions(mapDrawOptions);
-                    ByteArrayOutputStream baos = new ByteArrayOutputStream();
                     if (logger.isDebugEnabled()) {
                         final String mapPath = BINDING_USERDATA_PATH + File.separator + map
                                 + LocalDateTime.now().format(DATEFORMATTER) + ".rrmap";
                         CloudUtil.writeBytesToFileNio(mapData, mapPath);
                         logger.debug("Mapdata saved to {}", mapPath);
                     }
-                    ImageIO.write(rrMap.getImage(), "jpg", baos);
-                    byte[] byteArray = baos.toByteArray();
-                    if (byteArray != null && byteArray.length > 0) {
-                        return new RawType(byteArray, "image/jpeg");
-                    } else {
-                        logger.debug("Mapdata empty removing image");
-                        return UnDefType.UNDEF;
+                    synchronized (mapLayerCache) {
+                        byte[] mapDigest = RRMapFileParser.sha1Hash(mapData);
+                        if (Arrays.equals(mapDigest, lastMapDigest)) {
+                            logger.debug("Mapdata {} unchanged, reusing previous image", map);
+                            return lastMapState;
+                        }
+                        RRMapDraw rrMap = RRMapDraw.loadImage(new ByteArrayInputStream(mapData));
+                        rrMap.setDrawOptions(mapDrawOptions);
+                        rrMap.setLayerCache(mapLayerCache);
+                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                        ImageIO.write(rrMap.getImage(), "jpg", baos);
+                        logger.trace("Map layer cache hits: {} misses: {}", mapLayerCache.getHits(),
+                                mapLayerCache.getMisses());
+                        byte[] byteArray = baos.toByteArray();
+                        if (byteArray != null && byteArray.length > 0) {
+                            lastMapDigest = mapDigest;
+                            lastMapState = new RawType(byteArray, "image/jpeg");
+                            return lastMapState;
+                        } else {
+                            logger.debug("Mapdata empty removing image");
+                            return UnDefType.UNDEF;
+                        }
                     }
                 }
             } catch (MiCloudException e) {
@@ -38,6 +38,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.imageio.ImageIO;
 
@@ -63,11 +64,14 @@ public class RRMapDraw {
     private static final int MAP_INSIDE = 0xFF;
     private static final int MAP_SCAN = 0x07;
 
+    private static final Map<String, BufferedImage> ICONS = new ConcurrentHashMap<>();
+
     private final @Nullable Bundle bundle = FrameworkUtil.getBundle(getClass());
     private final RRMapFileParser rmfp;
     private final Logger logger = LoggerFactory.getLogger(RRMapDraw.class);
 
     private RRMapDrawOptions drawOptions = new RRMapDrawOptions();
+    private @Nullable RRMapLayerCache layerCache;
     private boolean multicolor = false;
     private int firstX = 0;
     private int lastX = 0;
@@ -94,6 +98,14 @@ public class RRMapDraw {
         return drawOptions;
     }
 
+    /**
+     * Sets the cache for the static map layers. With a cache the images returned by {@link #getImage(float)} are
+     * reused by the next rendering with the same cache.
+     */
+    public void setLayerCache(@Nullable RRMapLayerCache layerCache) {
+        this.layerCache = layerCache;
+    }
+
     public RRMapFileParser getMapParseDetails() {
         return this.rmfp;
     }
@@ -344,22 +356,40 @@ public class RRMapDraw {
     }
 
     private void drawCenteredImg(Graphics2D g2d, float scale, String imgFile, float x, float y) {
+        BufferedImage addImg = getIcon(imgFile);
+        if (addImg != null) {
+            int xpos = Math.round(x + (addImg.getWidth() / 2 * scale));
+            int ypos = Math.round(y + (addImg.getHeight() / 2 * scale));
+            AffineTransform at = new AffineTransform();
+            at.scale(-scale, -scale);
+            AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BILINEAR);
+            g2d.drawImage(addImg, scaleOp, xpos, ypos);
+        }
+    }
+
+    /**
+     * Loads an image from the bundle resources. Images are decoded once and kept for later maps.
+     */
+    private @Nullable BufferedImage getIcon(String imgFile) {
+        BufferedImage icon = ICONS.get(imgFile);
+        if (icon != null) {
+            return icon;
+        }
         URL image = getImageUrl(imgFile);
         try {
             if (image != null) {
-                BufferedImage addImg = ImageIO.read(image);
-                int xpos = Math.round(x + (addImg.getWidth() / 2 * scale));
-                int ypos = Math.round(y + (addImg.getHeight() / 2 * scale));
-                AffineTransform at = new AffineTransform();
-                at.scale(-scale, -scale);
-                AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BILINEAR);
-                g2d.drawImage(addImg, scaleOp, xpos, ypos);
+                icon = ImageIO.read(image);
+                if (icon != null) {
+                    ICONS.put(imgFile, icon);
+                }
+                return icon;
             } else {
                 logger.debug("Error loading image {}: File not be found.", imgFile);
             }
         } catch (IOException e) {
             logger.debug("Error loading image {}: {}", image, e.getMessage());
         }
+        return null;
     }
 
     private void drawGoTo(Graphics2D g2d, float scale) {
@@ -378,21 +408,14 @@ public class RRMapDraw {
         // easter egg gift
         int offset = 5;
         int textPos = 55;
-        URL image = getImageUrl("ohlogo.png");
-        try {
-            if (image != null) {
-                BufferedImage ohLogo = ImageIO.read(image);
-                textPos = (int) (ohLogo.getWidth() * scale / 2 + offset * scale);
-                AffineTransform at = new AffineTransform();
-                at.scale(scale / 2, scale / 2);
-                AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BILINEAR);
-                g2d.drawImage(ohLogo, scaleOp, offset,
-                        height - (int) (ohLogo.getHeight() * scale / 2) - (int) (offset * scale));
-            } else {
-                logger.debug("Error loading image ohlogo.png: File not be found.");
-            }
-        } catch (IOException e) {
-            logger.debug("Error loading image ohlogo.png:: {}", e.getMessage());
+        BufferedImage ohLogo = getIcon("ohlogo.png");
+        if (ohLogo != null) {
+            textPos = (int) (ohLogo.getWidth() * scale / 2 + offset * scale);
+            AffineTransform at = new AffineTransform();
+            at.scale(scale / 2, scale / 2);
+            AffineTransformOp scaleOp = new AffineTransformOp(at, AffineTransformOp.TYPE_BILINEAR);
+            g2d.drawImage(ohLogo, scaleOp, offset,
+                    height - (int) (ohLogo.getHeight() * scale / 2) - (int) (offset * scale));
         }
         if (drawOptions.getText().isBlank()) {
             return;
@@ -440,7 +463,7 @@ public class RRMapDraw {
     /**
      * Finds the perimeter of the used area in the map
      */
-    private void getMapArea(Graphics2D g2d, float scale) {
+    private void getMapArea() {
         int firstX = rmfp.getImgWidth();
         int lastX = 0;
         int firstY = rmfp.getImgHeight();
@@ -492,29 +515,28 @@ public class RRMapDraw {
     public BufferedImage getImage(float scale) {
         int width = (int) Math.floor(rmfp.getImgWidth() * scale);
         int height = (int) Math.floor(rmfp.getImgHeight() * scale);
-        BufferedImage bi = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
-        Graphics2D g2d = bi.createGraphics();
-        AffineTransform tx = AffineTransform.getScaleInstance(-1, -1);
-        tx.translate(-width, -height);
-        g2d.setTransform(tx);
-        drawMap(g2d, scale);
-        drawCarpetMap(g2d, scale);
-        drawZones(g2d, scale);
-        drawNoGo(g2d, scale);
-        drawWalls(g2d, scale);
-        drawPath(g2d, scale);
-        drawRobo(g2d, scale);
-        drawGoTo(g2d, scale);
-        drawObstacles(g2d, scale);
+        final RRMapLayerCache layerCache = this.layerCache;
+        BufferedImage bi;
+        if (layerCache != null) {
+            bi = drawCached(layerCache, width, height, scale);
+        } else {
+            bi = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            Graphics2D g2d = createMapGraphics(bi, width, height);
+            drawStaticLayers(g2d, scale);
+            drawDynamicLayers(g2d, scale);
+            g2d.dispose();
+        }
         if (drawOptions.getCropBorder() < 0) {
-            g2d = bi.createGraphics();
+            Graphics2D g2d = bi.createGraphics();
             if (drawOptions.isShowLogo()) {
                 drawOpenHabRocks(g2d, width, height, scale);
             }
             return bi;
         }
         // crop the image to the used perimeter
-        getMapArea(g2d, scale);
+        if (layerCache == null) {
+            getMapArea();
+        }
         int firstX = (this.firstX - drawOptions.getCropBorder()) > 0 ? this.firstX - drawOptions.getCropBorder() : 0;
         int lastX = (this.lastX + drawOptions.getCropBorder()) < rmfp.getImgWidth()
                 ? this.lastX + drawOptions.getCropBorder()
@@ -525,8 +547,17 @@ public class RRMapDraw {
                 : rmfp.getImgHeight();
         int nwidth = (int) Math.floor((lastX - firstX) * scale);
         int nheight = (int) Math.floor((lastY - firstY) * scale);
-        BufferedImage bo = new BufferedImage(nwidth, nheight, BufferedImage.TYPE_3BYTE_BGR);
-        Graphics2D crop = bo.createGraphics();
+        BufferedImage bo;
+        Graphics2D crop;
+        if (layerCache != null) {
+            bo = layerCache.getCropCanvas(nwidth, nheight);
+            crop = bo.createGraphics();
+            crop.setColor(Color.BLACK);
+            crop.fillRect(0, 0, nwidth, nheight);
+        } else {
+            bo = new BufferedImage(nwidth, nheight, BufferedImage.TYPE_3BYTE_BGR);
+            crop = bo.createGraphics();
+        }
         crop.transform(AffineTransform.getTranslateInstance(-firstX * scale, -firstY * scale));
         crop.drawImage(bi, 0, 0, null);
         if (drawOptions.isShowLogo()) {
@@ -536,6 +567,66 @@ public class RRMapDraw {
         return bo;
     }
 
+    private Graphics2D createMapGraphics(BufferedImage image, int width, int height) {
+        Graphics2D g2d = image.createGraphics();
+        AffineTransform tx = AffineTransform.getScaleInstance(-1, -1);
+        tx.translate(-width, -height);
+        g2d.setTransform(tx);
+        return g2d;
+    }
+
+    /**
+     * draws the layers which only change when the map is changed
+     */
+    private void drawStaticLayers(Graphics2D g2d, float scale) {
+        drawMap(g2d, scale);
+        drawCarpetMap(g2d, scale);
+        drawZones(g2d, scale);
+        drawNoGo(g2d, scale);
+        drawWalls(g2d, scale);
+    }
+
+    /**
+     * draws the layers which change while the vacuum is moving
+     */
+    private void drawDynamicLayers(Graphics2D g2d, float scale) {
+        drawPath(g2d, scale);
+        drawRobo(g2d, scale);
+        drawGoTo(g2d, scale);
+        drawObstacles(g2d, scale);
+    }
+
+    /**
+     * Draws the map reusing the static layers of the cache if the map did not change. The dynamic layers are drawn on
+     * the reused canvas of the cache.
+     */
+    private BufferedImage drawCached(RRMapLayerCache layerCache, int width, int height, float scale) {
+        final long checksum = rmfp.getStaticLayerChecksum();
+        BufferedImage staticLayers = layerCache.getStaticLayers(checksum, drawOptions, scale);
+        if (staticLayers == null || staticLayers.getWidth() != width || staticLayers.getHeight() != height) {
+            staticLayers = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            Graphics2D g2d = createMapGraphics(staticLayers, width, height);
+            drawStaticLayers(g2d, scale);
+            g2d.dispose();
+            getMapArea();
+            layerCache.putStaticLayers(checksum, drawOptions, scale, staticLayers, multicolor,
+                    new int[] { firstX, lastX, firstY, lastY });
+        } else {
+            multicolor = layerCache.isMulticolor();
+            int[] mapArea = layerCache.getMapArea();
+            firstX = mapArea[0];
+            lastX = mapArea[1];
+            firstY = mapArea[2];
+            lastY = mapArea[3];
+        }
+        BufferedImage canvas = layerCache.getCanvas(width, height);
+        staticLayers.copyData(canvas.getRaster());
+        Graphics2D g2d = createMapGraphics(canvas, width, height);
+        drawDynamicLayers(g2d, scale);
+        g2d.dispose();
+        return canvas;
+    }
+
     public boolean writePic(String filename, String formatName, float scale) throws IOException {
         return ImageIO.write(getImage(scale), formatName, new File(filename));
     }
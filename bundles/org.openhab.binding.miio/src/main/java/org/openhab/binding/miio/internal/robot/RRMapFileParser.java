@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.zip.CRC32;
 import java.util.zip.GZIPInputStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -111,6 +112,7 @@ public class RRMapFileParser {
     private byte[] blocks = new byte[0];
     private int[] carpetMap = {};
     private int[] mopPath = {};
+    private long staticLayerChecksum;
 
     private final Logger logger = LoggerFactory.getLogger(RRMapFileParser.class);
 
@@ -123,6 +125,7 @@ public class RRMapFileParser {
         this.mapIndex = getUInt32LE(raw, 0x0C);
         this.mapSequence = getUInt32LE(raw, 0x10);
 
+        CRC32 staticLayers = new CRC32();
         int blockStartPos = getUInt16(raw, 0x02); // main header length
         while (blockStartPos < raw.length) {
             int blockHeaderLength = getUInt16(raw, blockStartPos + 0x02);
@@ -131,6 +134,10 @@ public class RRMapFileParser {
             int blockDataLength = getUInt32LE(header, 0x04);
             int blockDataStart = blockStartPos + blockHeaderLength;
             byte[] data = getBytes(raw, blockDataStart, blockDataLength);
+            if (isStaticLayer(blocktype)) {
+                int blockLength = Math.min(blockHeaderLength + blockDataLength, raw.length - blockStartPos);
+                staticLayers.update(raw, blockStartPos, blockLength);
+            }
 
             switch (blocktype) {
                 case CHARGER:
@@ -165,8 +172,8 @@ public class RRMapFileParser {
                     detail.put(PATH_POINT_SIZE, getUInt32LE(header, 0x0C));
                     detail.put(PATH_ANGLE, getUInt32LE(header, 0x10));
                     for (int pathpair = 0; pathpair < pairs; pathpair++) {
-                        float x = (getUInt16(getBytes(raw, blockDataStart + pathpair * 4, 2)));
-                        float y = getUInt16(getBytes(raw, blockDataStart + pathpair * 4 + 2, 2));
+                        float x = getUInt16(raw, blockDataStart + pathpair * 4);
+                        float y = getUInt16(raw, blockDataStart + pathpair * 4 + 2);
                         path.add(new float[] { x, y });
                     }
                     paths.put(blocktype, path);
@@ -320,6 +327,26 @@ public class RRMapFileParser {
             }
             blockStartPos = blockStartPos + blockDataLength + (header[2] & 0xFF);
         }
+        this.staticLayerChecksum = staticLayers.getValue();
+    }
+
+    /**
+     * Blocks which are drawn as static background layer. These only change when the map itself is changed, unlike
+     * the path and robot position which change during cleaning.
+     */
+    private static boolean isStaticLayer(int blocktype) {
+        switch (blocktype) {
+            case IMAGE:
+            case CARPET_MAP:
+            case CURRENTLY_CLEANED_ZONES:
+            case NO_GO_AREAS:
+            case MOB_FORBIDDEN_AREA:
+            case CARPET_FORBIDDEN_AREA:
+            case VIRTUAL_WALLS:
+                return true;
+            default:
+                return false;
+        }
     }
 
     public static byte[] readRRMapFile(File file) throws IOException {
@@ -354,10 +381,6 @@ public class RRMapFileParser {
         return value;
     }
 
-    private int getUInt16(byte[] bytes) {
-        return getUInt16(bytes, 0);
-    }
-
     private int getUInt16(byte[] bytes, int pos) {
         int value = bytes[0 + pos] & 0xFF;
         value |= (bytes[1 + pos] << 8) & 0xFFFF;
@@ -565,4 +588,11 @@ public class RRMapFileParser {
     public final int[] getMopPath() {
         return mopPath;
     }
+
+    /**
+     * @return checksum of the blocks drawn as static layers (floor, carpets, zones and walls)
+     */
+    public long getStaticLayerChecksum() {
+        return staticLayerChecksum;
+    }
 }
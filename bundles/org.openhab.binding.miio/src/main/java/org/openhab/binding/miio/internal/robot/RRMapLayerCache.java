@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.miio.internal.robot;
+
+import java.awt.image.BufferedImage;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Keeps the rendered static layers of a vacuum map (floor, carpets, zones and walls) between map updates, keyed by
+ * the checksum of the map blocks they are drawn from. While the map itself does not change only the path, robot and
+ * charger need to be drawn, on canvases which are reused for every rendering.
+ *
+ * The cache is not thread safe, rendering with the same cache needs to be synchronized by the caller.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRMapLayerCache {
+
+    private long checksum;
+    private @Nullable RRMapDrawOptions drawOptions;
+    private float scale;
+    private @Nullable BufferedImage staticLayers;
+    private boolean multicolor;
+    private int[] mapArea = new int[4];
+
+    private @Nullable BufferedImage canvas;
+    private @Nullable BufferedImage cropCanvas;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Returns the cached static layers if they were rendered from the same map blocks with the same options.
+     *
+     * @param checksum the checksum of the static map blocks, see {@link RRMapFileParser#getStaticLayerChecksum()}
+     * @param drawOptions the draw options used to render the map
+     * @param scale the scale used to render the map
+     * @return the static layers, or <code>null</code> if they need to be rendered
+     */
+    @Nullable
+    BufferedImage getStaticLayers(long checksum, RRMapDrawOptions drawOptions, float scale) {
+        final BufferedImage staticLayers = this.staticLayers;
+        if (staticLayers != null && this.checksum == checksum && this.drawOptions == drawOptions
+                && this.scale == scale) {
+            hits++;
+            return staticLayers;
+        }
+        misses++;
+        return null;
+    }
+
+    void putStaticLayers(long checksum, RRMapDrawOptions drawOptions, float scale, BufferedImage staticLayers,
+            boolean multicolor, int[] mapArea) {
+        this.checksum = checksum;
+        this.drawOptions = drawOptions;
+        this.scale = scale;
+        this.staticLayers = staticLayers;
+        this.multicolor = multicolor;
+        this.mapArea = mapArea;
+    }
+
+    boolean isMulticolor() {
+        return multicolor;
+    }
+
+    /**
+     * @return the perimeter of the used area in the map as first x, last x, first y and last y
+     */
+    int[] getMapArea() {
+        return mapArea;
+    }
+
+    /**
+     * @return the canvas the full map is drawn on, reused if the size did not change
+     */
+    BufferedImage getCanvas(int width, int height) {
+        BufferedImage canvas = this.canvas;
+        if (canvas == null || canvas.getWidth() != width || canvas.getHeight() != height) {
+            canvas = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            this.canvas = canvas;
+        }
+        return canvas;
+    }
+
+    /**
+     * @return the canvas the cropped map is drawn on, reused if the size did not change
+     */
+    BufferedImage getCropCanvas(int width, int height) {
+        BufferedImage cropCanvas = this.cropCanvas;
+        if (cropCanvas == null || cropCanvas.getWidth() != width || cropCanvas.getHeight() != height) {
+            cropCanvas = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+            this.cropCanvas = cropCanvas;
+        }
+        return cropCanvas;
+    }
+
+    /**
+     * Drops the cached layers and canvases.
+     */
+    public void clear() {
+        staticLayers = null;
+        drawOptions = null;
+        canvas = null;
+        cropCanvas = null;
+    }
+
+    /**
+     * @return the number of renderings which reused the static layers
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of renderings which had to render the static layers
+     */
+    public long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.miio.internal.robot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link RRMapDraw} with a {@link RRMapLayerCache}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RRMapDrawTest {
+
+    private static final int SIZE = 40;
+    private static final int IMAGE_OFFSET = 0x14 + 0x18;
+
+    @Test
+    public void cachedRenderingMatchesFullRenderingTest() {
+        RRMapLayerCache cache = new RRMapLayerCache();
+        RRMapDrawOptions options = new RRMapDrawOptions();
+        options.setShowLogo(false);
+
+        byte[] first = createMap(500, 600);
+        byte[] second = createMap(900, 1100);
+        RRMapFileParser firstParser = new RRMapFileParser(first);
+        RRMapFileParser secondParser = new RRMapFileParser(second);
+        assertEquals(firstParser.getStaticLayerChecksum(), secondParser.getStaticLayerChecksum());
+
+        assertSameImage(render(first, options, null), render(first, options, cache));
+        assertSameImage(render(second, options, null), render(second, options, cache));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void changedFloorIsRenderedTest() {
+        RRMapLayerCache cache = new RRMapLayerCache();
+        RRMapDrawOptions options = new RRMapDrawOptions();
+        options.setShowLogo(false);
+
+        byte[] map = createMap(500, 600);
+        render(map, options, cache);
+        // extend the floor by one pixel, which is part of the IMAGE block
+        map[IMAGE_OFFSET + 4 + SIZE * 4] = (byte) 0xFF;
+        assertSameImage(render(map, options, null), render(map, options, cache));
+        assertEquals(2, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    private BufferedImage render(byte[] map, RRMapDrawOptions options, @Nullable RRMapLayerCache cache) {
+        RRMapDraw draw = new RRMapDraw(new RRMapFileParser(map));
+        draw.setDrawOptions(options);
+        draw.setLayerCache(cache);
+        BufferedImage image = draw.getImage();
+        // copy, as cached renderings reuse the image
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+        image.copyData(copy.getRaster());
+        return copy;
+    }
+
+    private void assertSameImage(BufferedImage expected, BufferedImage actual) {
+        assertEquals(expected.getWidth(), actual.getWidth());
+        assertEquals(expected.getHeight(), actual.getHeight());
+        int width = expected.getWidth();
+        int height = expected.getHeight();
+        assertArrayEquals(expected.getRGB(0, 0, width, height, null, 0, width),
+                actual.getRGB(0, 0, width, height, null, 0, width));
+    }
+
+    /**
+     * Creates a map with a square floor, a path ending at the robot and the robot position.
+     */
+    private static byte[] createMap(int roboX, int roboY) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] image = new byte[SIZE * SIZE];
+        for (int y = 5; y < SIZE - 5; y++) {
+            for (int x = 5; x < SIZE - 5; x++) {
+                image[x + SIZE * y] = (byte) (x == 5 || x == SIZE - 6 || y == 5 || y == SIZE - 6 ? 0x01 : 0xFF);
+            }
+        }
+        int[] path = { 1000, 1000, 1200, 1000, roboX, roboY };
+
+        // main header
+        writeUInt16(out, RRMapFileParser.HEADER);
+        writeUInt16(out, 0x14);
+        writeUInt32(out, 0);
+        writeUInt16(out, 1);
+        writeUInt16(out, 0);
+        writeUInt32(out, 1);
+        writeUInt32(out, 1);
+        // image block
+        writeUInt16(out, RRMapFileParser.IMAGE);
+        writeUInt16(out, 0x18);
+        writeUInt32(out, image.length);
+        writeUInt32(out, 0);
+        writeUInt32(out, 0);
+        writeUInt32(out, SIZE);
+        writeUInt32(out, SIZE);
+        out.writeBytes(image);
+        // path block
+        writeUInt16(out, RRMapFileParser.PATH);
+        writeUInt16(out, 0x14);
+        writeUInt32(out, path.length * 2);
+        writeUInt32(out, path.length / 2);
+        writeUInt32(out, 0);
+        writeUInt32(out, 0);
+        for (int coordinate : path) {
+            writeUInt16(out, coordinate);
+        }
+        // robot position block
+        writeUInt16(out, RRMapFileParser.ROBOT_POSITION);
+        writeUInt16(out, 0x08);
+        writeUInt32(out, 8);
+        writeUInt32(out, roboX);
+        writeUInt32(out, roboY);
+        return out.toByteArray();
+    }
+
+    private static void writeUInt16(ByteArrayOutputStream out, int value) {
+        out.write(value & 0xFF);
+        out.write((value >> 8) & 0xFF);
+    }
+
+    private static void writeUInt32(ByteArrayOutputStream out, int value) {
+        writeUInt16(out, value & 0xFFFF);
+        writeUInt16(out, (value >> 16) & 0xFFFF);
+    }
+}
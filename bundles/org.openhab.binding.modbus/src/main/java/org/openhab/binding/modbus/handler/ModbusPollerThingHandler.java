@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -26,6 +27,7 @@ import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
@@ -70,6 +72,18 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
 
+        /**
+         * Registers or bits of the previous poll, used to find out which parts of the polled data have changed
+         */
+        private int[] previousData = new int[0];
+        private final BitSet changedData = new BitSet();
+        private volatile boolean forceFullUpdate = true;
+        /**
+         * Changed registers or bits of the poll result that is being delivered to the children, <code>null</code> if
+         * all the data needs to be processed
+         */
+        private volatile @Nullable BitSet deliveredChanges;
+
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
             if (hasConfigurationError() || disposed) {
@@ -85,7 +99,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
-            notifyChildren(result);
+            AsyncModbusReadResult readResult = result.result;
+            deliveredChanges = readResult != null ? updateChangedData(readResult) : null;
+            try {
+                notifyChildren(result);
+            } finally {
+                deliveredChanges = null;
+            }
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -125,7 +145,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          * @return whether data was updated. Data is not updated when it's too old or there's no data at all.
          */
         @SuppressWarnings("null")
-        public boolean updateChildrenWithOldData(long oldestStamp) {
+        public synchronized boolean updateChildrenWithOldData(long oldestStamp) {
             return Optional.ofNullable(this.lastResult).map(result -> result.copyIfStampAfter(oldestStamp))
                     .map(result -> {
                         logger.debug("Thing {} reusing cached data: {}", thing.getUID(), result.getValue());
@@ -148,11 +168,54 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             });
         }
 
+        /**
+         * Compares the polled data with the data of the previous poll. The comparison is done once per poll for all
+         * children, which then only need to check whether their part of the data changed.
+         *
+         * @param result successful poll result
+         * @return the changed registers or bits, or <code>null</code> if all the data needs to be processed
+         */
+        private @Nullable BitSet updateChangedData(AsyncModbusReadResult result) {
+            boolean fullUpdate = forceFullUpdate;
+            forceFullUpdate = false;
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            int size = registers.isPresent() ? registers.get().size() : bits.isPresent() ? bits.get().size() : 0;
+            int[] previousData = this.previousData;
+            if (previousData.length != size) {
+                previousData = new int[size];
+                this.previousData = previousData;
+                fullUpdate = true;
+            }
+            changedData.clear();
+            if (registers.isPresent()) {
+                ModbusRegisterArray registerArray = registers.get();
+                for (int i = 0; i < size; i++) {
+                    int value = registerArray.getRegister(i);
+                    if (value != previousData[i]) {
+                        previousData[i] = value;
+                        changedData.set(i);
+                    }
+                }
+            } else if (bits.isPresent()) {
+                BitArray bitArray = bits.get();
+                for (int i = 0; i < size; i++) {
+                    int value = bitArray.getBit(i) ? 1 : 0;
+                    if (value != previousData[i]) {
+                        previousData[i] = value;
+                        changedData.set(i);
+                    }
+                }
+            }
+            return fullUpdate ? null : changedData;
+        }
+
         /**
          * Rest data caches
          */
         public void resetCache() {
             lastResult = null;
+            forceFullUpdate = true;
         }
     }
 
@@ -427,6 +490,8 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         if (localRequest == null) {
             return;
         }
+        // children need to process the next data completely, e.g. for newly linked channels
+        callbackDelegator.forceFullUpdate = true;
         ModbusRegisterArray possiblyMutatedCache = lastPolledDataCache.get();
         AtomicStampedValue<PollResult> lastPollResult = callbackDelegator.lastResult;
         if (lastPollResult != null && possiblyMutatedCache != null) {
@@ -460,6 +525,25 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Checks whether a part of the polled data is identical to the data of the previous poll.
+     *
+     * Only poll results which are being delivered to the child things are compared. For any other data, e.g. cached
+     * data delivered on refresh, this returns <code>false</code>.
+     *
+     * @param start index of the first register or bit, relative to the start of the poll
+     * @param length number of registers or bits
+     * @return whether the data is known to be unchanged
+     */
+    public boolean isPolledDataUnchanged(int start, int length) {
+        BitSet changes = callbackDelegator.deliveredChanges;
+        if (changes == null) {
+            return false;
+        }
+        int nextChange = changes.nextSetBit(start);
+        return nextChange < 0 || nextChange >= start + length;
+    }
+
     public AtomicReference<@Nullable ModbusRegisterArray> getLastPolledDataCache() {
         return lastPolledDataCache;
     }
@@ -138,6 +138,10 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Optional<Integer> writeStart = Optional.empty();
     private volatile Optional<Integer> writeSubIndex = Optional.empty();
     private volatile int pollStart;
+    // registers or bits read by this thing, relative to the start of the poll
+    private volatile int readDataStart;
+    private volatile int readDataLength;
+    private volatile boolean readDataProcessed;
     private volatile int slaveId;
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
@@ -151,6 +155,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
     private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    // states of the next update, swapped with channelLastState to avoid allocating a map on every poll
+    private volatile Map<ChannelUID, State> channelNextState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -472,6 +478,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeStart = Optional.empty();
         writeSubIndex = Optional.empty();
         pollStart = 0;
+        readDataStart = 0;
+        readDataLength = 0;
+        readDataProcessed = false;
         slaveId = 0;
         comms = null;
         functionCode = null;
@@ -486,6 +495,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
         channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
         channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        channelNextState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     }
 
     @Override
@@ -578,6 +588,12 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         }
         readTransformation = new CascadedValueTransformationImpl(config.getReadTransform());
         validateReadIndex();
+
+        ValueType readValueType = this.readValueType;
+        if (isReadEnabled && readValueType != null) {
+            readDataStart = readIndex.get() - pollStart;
+            readDataLength = Math.max(1, readValueType.getBits() / 16);
+        }
     }
 
     private void validateAndParseWriteParameters(ModbusDataConfiguration config) throws ModbusConfigurationException {
@@ -796,6 +812,11 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     }
 
     public synchronized void onReadResult(AsyncModbusReadResult result) {
+        ModbusPollerThingHandler poller = pollerHandler;
+        if (readDataProcessed && poller != null && poller.isPolledDataUnchanged(readDataStart, readDataLength)) {
+            onUnchangedData();
+            return;
+        }
         result.getRegisters().ifPresent(registers -> onRegisters(result.getRequest(), registers));
         result.getBits().ifPresent(bits -> onBits(result.getRequest(), bits));
     }
@@ -863,6 +884,33 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
     }
 
+    /**
+     * Handles polled data when the registers or bits of this thing did not change since the previous poll. The
+     * values are not extracted and transformed again, the previous channel states are used instead.
+     */
+    private synchronized void onUnchangedData() {
+        if (hasConfigurationError()) {
+            return;
+        } else if (!isReadEnabled) {
+            return;
+        }
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        long now = System.currentTimeMillis();
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        for (Map.Entry<ChannelUID, State> entry : channelLastState.entrySet()) {
+            ChannelUID uid = entry.getKey();
+            if (!uid.equals(lastReadSuccessUID) && isLinked(uid)) {
+                updateExpiredChannel(now, uid, entry.getValue());
+            }
+        }
+        if (isLinked(lastReadSuccessUID)) {
+            DateTimeType lastReadSuccess = new DateTimeType();
+            updateExpiredChannel(now, lastReadSuccessUID, lastReadSuccess);
+            channelLastState.put(lastReadSuccessUID, lastReadSuccess);
+        }
+        logger.trace("Thing {} data unchanged, reusing previous channel states", thing.getUID());
+    }
+
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
         if (hasConfigurationError()) {
             return;
@@ -963,7 +1011,8 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             logger.trace("No transformation available, aborting processUpdatedValue");
             return Collections.emptyMap();
         }
-        Map<ChannelUID, State> states = new HashMap<>();
+        Map<ChannelUID, State> states = channelNextState;
+        states.clear();
         CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream().forEach(channelId -> {
             ChannelUID channelUID = getChannelUID(channelId);
             if (!isLinked(channelUID)) {
@@ -1022,6 +1071,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             states.put(lastReadSuccessUID, new DateTimeType());
         }
         updateExpiredChannels(states);
+        readDataProcessed = true;
         return states;
     }
 
@@ -1031,6 +1081,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             long now = System.currentTimeMillis();
             // Update channels that have not been updated in a while, or when their values has changed
             states.forEach((uid, state) -> updateExpiredChannel(now, uid, state));
+            channelNextState = channelLastState;
             channelLastState = states;
         }
     }
@@ -20,6 +20,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -62,12 +63,20 @@ public class ChannelState implements MqttMessageSubscriber {
     private @Nullable MqttBrokerConnection connection;
     protected final List<ChannelStateTransformation> transformationsIn = new ArrayList<>();
     protected final List<ChannelStateTransformation> transformationsOut = new ArrayList<>();
+    // Snapshot of transformationsIn, rebuilt whenever the transformations change
+    private volatile ChannelStateTransformation[] compiledTransformationsIn = new ChannelStateTransformation[0];
     private @Nullable ChannelStateUpdateListener channelStateUpdateListener;
     protected boolean hasSubscribed = false;
     private @Nullable ScheduledFuture<?> scheduledFuture;
     private CompletableFuture<@Nullable Void> future = CompletableFuture.completedFuture(null);
     private final Object futureLock = new Object();
 
+    // Statistics of processed messages
+    private final LongAdder receivedMessages = new LongAdder();
+    private final LongAdder rawParsedMessages = new LongAdder();
+    private final LongAdder transformationNanos = new LongAdder();
+    private final LongAdder processingNanos = new LongAdder();
+
     /**
      * Creates a new channel state.
      *
@@ -97,7 +106,9 @@ public class ChannelState implements MqttMessageSubscriber {
      * @param transformation A transformation
      */
     public void addTransformation(ChannelStateTransformation transformation) {
+        transformation.resolveService();
         transformationsIn.add(transformation);
+        compiledTransformationsIn = transformationsIn.toArray(ChannelStateTransformation[]::new);
     }
 
     public void addTransformation(String transformation, TransformationServiceProvider transformationServiceProvider) {
@@ -132,6 +143,7 @@ public class ChannelState implements MqttMessageSubscriber {
     public void clearTransformations() {
         transformationsIn.clear();
         transformationsOut.clear();
+        compiledTransformationsIn = new ChannelStateTransformation[0];
     }
 
     /**
@@ -167,6 +179,16 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
+        long start = System.nanoTime();
+        try {
+            processPayload(topic, payload, channelStateUpdateListener);
+        } finally {
+            receivedMessages.increment();
+            processingNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    private void processPayload(String topic, byte[] payload, ChannelStateUpdateListener channelStateUpdateListener) {
         if (cachedValue.isBinary()) {
             cachedValue.update(payload);
             channelStateUpdateListener.updateChannelState(channelUID, cachedValue.getChannelState());
@@ -174,32 +196,51 @@ public class ChannelState implements MqttMessageSubscriber {
             return;
         }
 
-        // String value: Apply transformations
-        String strValue = new String(payload, StandardCharsets.UTF_8);
-        for (ChannelStateTransformation t : transformationsIn) {
-            String transformedValue = t.processValue(strValue);
-            if (transformedValue != null) {
-                strValue = transformedValue;
-            } else {
-                logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue, t.serviceName);
+        final ChannelStateTransformation[] transformations = compiledTransformationsIn;
+        Command command = null;
+        // Without transformations, common payloads like plain numbers are parsed without decoding a String
+        if (transformations.length == 0 && !config.trigger) {
+            command = cachedValue.parseRawMessage(payload);
+        }
+
+        if (command != null) {
+            rawParsedMessages.increment();
+        } else {
+            // String value: Apply transformations
+            String strValue = new String(payload, StandardCharsets.UTF_8);
+            if (transformations.length > 0) {
+                long start = System.nanoTime();
+                try {
+                    for (ChannelStateTransformation t : transformations) {
+                        String transformedValue = t.processValue(strValue);
+                        if (transformedValue != null) {
+                            strValue = transformedValue;
+                        } else {
+                            logger.debug("Transformation '{}' returned null on '{}', discarding message", strValue,
+                                    t.serviceName);
+                            receivedOrTimeout();
+                            return;
+                        }
+                    }
+                } finally {
+                    transformationNanos.add(System.nanoTime() - start);
+                }
+            }
+
+            // Is trigger?: Special handling
+            if (config.trigger) {
+                channelStateUpdateListener.triggerChannel(channelUID, strValue);
                 receivedOrTimeout();
                 return;
             }
-        }
-
-        // Is trigger?: Special handling
-        if (config.trigger) {
-            channelStateUpdateListener.triggerChannel(channelUID, strValue);
-            receivedOrTimeout();
-            return;
-        }
 
-        Command command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
-        if (command == null) {
-            logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
-                    cachedValue.getClass().getSimpleName());
-            receivedOrTimeout();
-            return;
+            command = TypeParser.parseCommand(cachedValue.getSupportedCommandTypes(), strValue);
+            if (command == null) {
+                logger.warn("Incoming payload '{}' on '{}' not supported by type '{}'", strValue, topic,
+                        cachedValue.getClass().getSimpleName());
+                receivedOrTimeout();
+                return;
+            }
         }
 
         Type parsedType;
@@ -207,7 +248,7 @@ public class ChannelState implements MqttMessageSubscriber {
         try {
             parsedType = cachedValue.parseMessage(command);
         } catch (IllegalArgumentException | IllegalStateException e) {
-            logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}", strValue, channelUID,
+            logger.warn("Command '{}' from channel '{}' not supported by type '{}': {}", command, channelUID,
                     cachedValue.getClass().getSimpleName(), e.getMessage());
             receivedOrTimeout();
             return;
@@ -234,6 +275,34 @@ public class ChannelState implements MqttMessageSubscriber {
         receivedOrTimeout();
     }
 
+    /**
+     * Returns the number of MQTT messages processed by this channel state.
+     */
+    public long getReceivedMessages() {
+        return receivedMessages.sum();
+    }
+
+    /**
+     * Returns the number of MQTT messages which were parsed from the raw payload, without String decoding.
+     */
+    public long getRawParsedMessages() {
+        return rawParsedMessages.sum();
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent in the incoming transformations.
+     */
+    public long getTransformationNanos() {
+        return transformationNanos.sum();
+    }
+
+    /**
+     * Returns the total time in nanoseconds spent processing MQTT messages, including the transformations.
+     */
+    public long getProcessingNanos() {
+        return processingNanos.sum();
+    }
+
     /**
      * Returns the state topic. Might be an empty string if this is a stateless channel (TRIGGER kind channel).
      */
@@ -70,6 +70,19 @@ public class ChannelStateTransformation {
         this.provider = provider;
     }
 
+    /**
+     * Looks up the transformation service in advance, so that processing the first value does not have to.
+     * The lookup is repeated on the first value if the service is not available yet.
+     */
+    void resolveService() {
+        if (transformationService.get() == null) {
+            TransformationService service = provider.getTransformationService(serviceName);
+            if (service != null) {
+                transformationService = new WeakReference<>(service);
+            }
+        }
+    }
+
     /**
      * Will be called by the {@link ChannelState} for each incoming MQTT value.
      *
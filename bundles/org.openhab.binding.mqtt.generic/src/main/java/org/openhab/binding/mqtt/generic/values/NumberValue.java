@@ -47,6 +47,7 @@ import org.slf4j.LoggerFactory;
 public class NumberValue extends Value {
     private static final String NAN = "NaN";
     private static final String NEGATIVE_NAN = "-NaN";
+    private static final int MAX_RAW_DIGITS = 18;
 
     private final Logger logger = LoggerFactory.getLogger(NumberValue.class);
     private final @Nullable BigDecimal min;
@@ -135,6 +136,38 @@ public class NumberValue extends Value {
         return parseCommand(command);
     }
 
+    /**
+     * Parses plain decimal payloads like <code>-23.5</code> directly from the bytes. Exponents, units and anything
+     * else are left to the String based parsing.
+     */
+    @Override
+    public @Nullable Command parseRawMessage(byte[] payload) {
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        int start = payload.length > 0 && payload[0] == '-' ? 1 : 0;
+        for (int i = start; i < payload.length; i++) {
+            byte b = payload[i];
+            if (b >= '0' && b <= '9') {
+                if (++digits > MAX_RAW_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (b - '0');
+                if (scale >= 0) {
+                    scale++;
+                }
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return new DecimalType(BigDecimal.valueOf(start == 1 ? -unscaled : unscaled, Math.max(scale, 0)));
+    }
+
     private BigDecimal getOldValue() {
         BigDecimal val = BigDecimal.ZERO;
         if (state instanceof DecimalType decimalCommand) {
@@ -14,6 +14,8 @@ package org.openhab.binding.mqtt.generic.values;
 
 import static java.util.function.Predicate.not;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -35,10 +37,15 @@ import org.openhab.core.types.CommandOption;
  */
 @NonNullByDefault
 public class OnOffValue extends Value {
+    private static final byte[] ON = OnOffType.ON.name().getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OFF = OnOffType.OFF.name().getBytes(StandardCharsets.UTF_8);
+
     private final Set<String> onStates;
     private final Set<String> offStates;
     private final String onCommand;
     private final String offCommand;
+    private final byte[][] rawOnStates;
+    private final byte[][] rawOffStates;
 
     /**
      * Creates a switch On/Off type, that accepts "ON" for on and "OFF" for off.
@@ -91,6 +98,9 @@ public class OnOffValue extends Value {
         super(CoreItemFactory.SWITCH, List.of(OnOffType.class, StringType.class));
         this.onStates = Stream.of(onStates).filter(not(String::isBlank)).collect(Collectors.toSet());
         this.offStates = Stream.of(offStates).filter(not(String::isBlank)).collect(Collectors.toSet());
+        this.rawOnStates = this.onStates.stream().map(s -> s.getBytes(StandardCharsets.UTF_8)).toArray(byte[][]::new);
+        this.rawOffStates = this.offStates.stream().map(s -> s.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
         this.onCommand = onCommand;
         this.offCommand = offCommand;
     }
@@ -111,6 +121,30 @@ public class OnOffValue extends Value {
         }
     }
 
+    /**
+     * Matches the payload against "ON", "OFF" and the configured state strings in the same order as the String based
+     * parsing does.
+     */
+    @Override
+    public @Nullable Command parseRawMessage(byte[] payload) {
+        if (Arrays.equals(payload, ON)) {
+            return OnOffType.ON;
+        } else if (Arrays.equals(payload, OFF)) {
+            return OnOffType.OFF;
+        }
+        for (byte[] state : rawOnStates) {
+            if (Arrays.equals(payload, state)) {
+                return OnOffType.ON;
+            }
+        }
+        for (byte[] state : rawOffStates) {
+            if (Arrays.equals(payload, state)) {
+                return OnOffType.OFF;
+            }
+        }
+        return null;
+    }
+
     @Override
     public String getMQTTpublishValue(Command command, @Nullable String pattern) {
         String formatPattern = pattern;
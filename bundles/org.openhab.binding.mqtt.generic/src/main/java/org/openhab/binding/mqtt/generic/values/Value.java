@@ -138,6 +138,17 @@ public abstract class Value {
      */
     public abstract Command parseCommand(Command command) throws IllegalArgumentException;
 
+    /**
+     * Parses a raw MQTT payload without decoding it into a String first. Value types override this for payloads
+     * which can be recognized on the byte level, like plain numbers or on/off values.
+     *
+     * @param payload The raw MQTT payload.
+     * @return The command, or <code>null</code> if the payload has to be parsed from its String representation.
+     */
+    public @Nullable Command parseRawMessage(byte[] payload) {
+        return null;
+    }
+
     /**
      * Parses a given command from MQTT into the proper type for this Value type. This will usually
      * be a State, but can be a non-State Command, in which case the channel will be commanded instead
@@ -17,6 +17,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -115,6 +116,28 @@ public class ValueTests {
         assertThrows(IllegalArgumentException.class, () -> v.parseCommand(new DecimalType(101.0)));
     }
 
+    @Test
+    public void rawNumberMessage() {
+        NumberValue v = new NumberValue(null, null, null, null);
+        for (String payload : new String[] { "15", "-23.5", "0.250", "5.", ".5", "-0", "123456789012345678" }) {
+            assertThat(v.parseRawMessage(payload.getBytes(StandardCharsets.UTF_8)), is(p(v, payload)));
+        }
+        for (String payload : new String[] { "", "-", ".", "1e3", "1.2.3", "+5", " 5", "1234567890123456789", "NaN",
+                "INCREASE", "5 °C" }) {
+            assertNull(v.parseRawMessage(payload.getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void rawOnOffMessage() {
+        OnOffValue v = new OnOffValue("fancyON", "fancyOff");
+        assertThat(v.parseRawMessage("ON".getBytes(StandardCharsets.UTF_8)), is(OnOffType.ON));
+        assertThat(v.parseRawMessage("OFF".getBytes(StandardCharsets.UTF_8)), is(OnOffType.OFF));
+        assertThat(v.parseRawMessage("fancyON".getBytes(StandardCharsets.UTF_8)), is(OnOffType.ON));
+        assertThat(v.parseRawMessage("fancyOff".getBytes(StandardCharsets.UTF_8)), is(OnOffType.OFF));
+        assertNull(v.parseRawMessage("on".getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     public void onoffUpdate() {
         OnOffValue v = new OnOffValue("fancyON", "fancyOff");
@@ -25,15 +25,18 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -47,6 +50,7 @@ import org.openhab.binding.network.internal.utils.NetworkUtils.IpPingMethodEnum;
 import org.openhab.binding.network.internal.utils.PingResult;
 import org.openhab.core.cache.ExpiringCache;
 import org.openhab.core.cache.ExpiringCacheAsync;
+import org.openhab.core.common.NamedThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -63,6 +67,21 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private static final Duration DESTINATION_TTL = Duration.ofMinutes(5);
 
+    /**
+     * The maximum number of ping, ARP and TCP checks running at the same time for all hosts of the binding.
+     * Further checks are queued until a thread becomes available.
+     */
+    static final int MAX_CONCURRENT_CHECKS = 32;
+
+    /**
+     * The minimum time between the first refresh of two hosts, so that many things initialized at the same time
+     * don't start all of their checks at once and their periodic refreshes stay spread over the refresh interval.
+     */
+    static final Duration REFRESH_START_SPACING = Duration.ofMillis(100);
+
+    private static final ExecutorService SHARED_DETECTION_EXECUTOR = createSharedDetectionExecutor();
+    private static final AtomicLong NEXT_REFRESH_START = new AtomicLong();
+
     NetworkUtils networkUtils = new NetworkUtils();
     private final Logger logger = LoggerFactory.getLogger(PresenceDetection.class);
 
@@ -93,8 +112,9 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     private Set<String> networkInterfaceNames = Set.of();
     private @Nullable ScheduledFuture<?> refreshJob;
-    protected @Nullable ExecutorService detectionExecutorService;
-    protected @Nullable ExecutorService waitForResultExecutorService;
+    ExecutorService detectionExecutorService = SHARED_DETECTION_EXECUTOR;
+    private @Nullable CompletableFuture<PresenceDetectionValue> detectionFuture;
+    private final Set<CompletableFuture<Void>> runningChecks = ConcurrentHashMap.newKeySet();
     private String dhcpState = "off";
     int detectionChecks;
     private String lastReachableNetworkInterfaceName = "";
@@ -285,8 +305,11 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         cache.getValue(this::performPresenceDetection).thenAccept(callback);
     }
 
-    public ExecutorService getThreadsFor(int threadCount) {
-        return Executors.newFixedThreadPool(threadCount);
+    private static ExecutorService createSharedDetectionExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_CONCURRENT_CHECKS, MAX_CONCURRENT_CHECKS, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new NamedThreadFactory("network-presence", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
     private void withDestinationAddress(Consumer<InetAddress> consumer) {
@@ -298,24 +321,11 @@ public class PresenceDetection implements IPRequestReceivedCallback {
         }
     }
 
-    private void stopDetection() {
-        ExecutorService detectionExecutorService = this.detectionExecutorService;
-        if (detectionExecutorService != null) {
-            logger.debug("Shutting down detectionExecutorService");
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-        }
-        ExecutorService waitForResultExecutorService = this.waitForResultExecutorService;
-        if (waitForResultExecutorService != null) {
-            logger.debug("Shutting down waitForResultExecutorService");
-            waitForResultExecutorService.shutdownNow();
-            this.waitForResultExecutorService = null;
-        }
-    }
-
     /**
      * Perform a presence detection with ICMP-, ARP ping and TCP connection attempts simultaneously.
-     * A fixed thread pool will be created with as many threads as necessary to perform all tests at once.
+     * The checks are executed by an executor shared by all hosts of the binding, which runs at most
+     * {@link #MAX_CONCURRENT_CHECKS} checks at once. If a detection for this host is still in progress, its
+     * result is returned instead of starting another one.
      *
      * Please be aware of the following restrictions:
      * <ul>
@@ -325,7 +335,13 @@ public class PresenceDetection implements IPRequestReceivedCallback {
      *
      * @return a {@link CompletableFuture} for obtaining the {@link PresenceDetectionValue}
      */
-    public CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
+    public synchronized CompletableFuture<PresenceDetectionValue> performPresenceDetection() {
+        CompletableFuture<PresenceDetectionValue> runningDetection = detectionFuture;
+        if (runningDetection != null && !runningDetection.isDone()) {
+            logger.trace("Presence detection for {} is still in progress", hostname);
+            return runningDetection;
+        }
+
         Set<String> interfaceNames = null;
 
         detectionChecks = tcpPorts.size();
@@ -351,83 +367,104 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             return CompletableFuture.completedFuture(pdv);
         }
 
-        stopDetection();
-
-        ExecutorService detectionExecutorService = getThreadsFor(detectionChecks);
-        this.detectionExecutorService = detectionExecutorService;
-        ExecutorService waitForResultExecutorService = getThreadsFor(1);
-        this.waitForResultExecutorService = waitForResultExecutorService;
-
         List<CompletableFuture<Void>> completableFutures = new ArrayList<>();
 
         for (Integer tcpPort : tcpPorts) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionTCP_" + hostname + " " + tcpPort);
-                performServicePing(pdv, tcpPort);
-            }, detectionExecutorService);
+            addAsyncDetection(completableFutures, () -> performServicePing(pdv, tcpPort));
         }
 
-        // ARP ping for IPv4 addresses. Use single executor for Windows tool and
-        // each own executor for each network interface for other tools
+        // ARP ping for IPv4 addresses. Use single check for Windows tool and
+        // one check for each network interface for other tools
         if (arpPingMethod == ArpPingUtilEnum.ELI_FULKERSON_ARP_PING_FOR_WINDOWS) {
-            addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionARP_" + hostname + " ");
-                // arp-ping.exe tool capable of handling multiple interfaces by itself
-                performArpPing(pdv, "");
-            }, detectionExecutorService);
+            // arp-ping.exe tool capable of handling multiple interfaces by itself
+            addAsyncDetection(completableFutures, () -> performArpPing(pdv, ""));
         } else if (interfaceNames != null) {
             for (final String interfaceName : interfaceNames) {
-                addAsyncDetection(completableFutures, () -> {
-                    Thread.currentThread().setName("presenceDetectionARP_" + hostname + " " + interfaceName);
-                    performArpPing(pdv, interfaceName);
-                }, detectionExecutorService);
+                addAsyncDetection(completableFutures, () -> performArpPing(pdv, interfaceName));
             }
         }
 
         // ICMP ping
         if (pingMethod != null) {
             addAsyncDetection(completableFutures, () -> {
-                Thread.currentThread().setName("presenceDetectionICMP_" + hostname);
                 if (pingMethod == IpPingMethodEnum.JAVA_PING) {
                     performJavaPing(pdv);
                 } else {
                     performSystemPing(pdv);
                 }
-            }, detectionExecutorService);
+            });
         }
 
-        return CompletableFuture.supplyAsync(() -> {
-            Thread.currentThread().setName("presenceDetectionResult_" + hostname);
-            logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
-            completableFutures.forEach(completableFuture -> {
-                try {
-                    completableFuture.join();
-                } catch (CancellationException | CompletionException e) {
-                    logger.debug("Detection future failed to complete", e);
-                }
-            });
-            logger.debug("All {} detection futures for {} have completed", completableFutures.size(), hostname);
+        logger.debug("Waiting for {} detection futures for {} to complete", completableFutures.size(), hostname);
+        CompletableFuture<PresenceDetectionValue> future = CompletableFuture
+                .allOf(completableFutures.toArray(CompletableFuture[]::new)).handle((result, e) -> {
+                    if (e != null) {
+                        logger.debug("Detection future failed to complete", e);
+                    }
+                    logger.debug("All {} detection futures for {} have completed", completableFutures.size(),
+                            hostname);
 
-            if (!pdv.isReachable()) {
-                logger.debug("{} is unreachable, invalidating destination value", hostname);
-                destination.invalidateValue();
-            }
+                    if (!pdv.isReachable()) {
+                        logger.debug("{} is unreachable, invalidating destination value", hostname);
+                        destination.invalidateValue();
+                    }
 
-            logger.debug("Sending listener final result: {}", pdv);
-            updateListener.finalDetectionResult(pdv);
+                    logger.debug("Sending listener final result: {}", pdv);
+                    updateListener.finalDetectionResult(pdv);
 
-            detectionExecutorService.shutdownNow();
-            this.detectionExecutorService = null;
-            detectionChecks = 0;
+                    detectionChecks = 0;
 
-            return pdv;
-        }, waitForResultExecutorService);
+                    return pdv;
+                });
+        detectionFuture = future;
+        return future;
     }
 
-    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable,
-            ExecutorService executorService) {
-        completableFutures.add(CompletableFuture.runAsync(detectionRunnable, executorService)
-                .orTimeout(timeout.plusSeconds(3).toMillis(), TimeUnit.MILLISECONDS));
+    /**
+     * Submits a check to the shared executor. The timeout of the check starts when it is run, so time spent waiting
+     * for a free thread of the executor does not make a reachable host unreachable. A check which timed out or was
+     * cancelled by {@link #stopDetection()} is interrupted, or skipped if it did not start yet.
+     */
+    private void addAsyncDetection(List<CompletableFuture<Void>> completableFutures, Runnable detectionRunnable) {
+        CompletableFuture<Void> check = new CompletableFuture<>();
+        long timeoutMillis = timeout.plusSeconds(3).toMillis();
+        FutureTask<@Nullable Void> task = new FutureTask<>(() -> {
+            ScheduledFuture<?> timeoutJob = scheduledExecutorService.schedule(
+                    () -> check.completeExceptionally(new TimeoutException("Check for " + hostname + " timed out")),
+                    timeoutMillis, TimeUnit.MILLISECONDS);
+            try {
+                detectionRunnable.run();
+                check.complete(null);
+            } catch (RuntimeException e) {
+                check.completeExceptionally(e);
+            } finally {
+                timeoutJob.cancel(false);
+            }
+        }, null);
+        check.whenComplete((result, e) -> {
+            runningChecks.remove(check);
+            if (e != null) {
+                task.cancel(true);
+            }
+        });
+        runningChecks.add(check);
+        completableFutures.add(check);
+        detectionExecutorService.execute(task);
+    }
+
+    /**
+     * Runs the checks of this host on the given executor instead of the executor shared by all things, e.g. for the
+     * short lived hosts of a network discovery.
+     */
+    public void setDetectionExecutorService(ExecutorService detectionExecutorService) {
+        this.detectionExecutorService = detectionExecutorService;
+    }
+
+    /**
+     * Cancels all checks of this host which are queued or running on the shared executor.
+     */
+    public void stopDetection() {
+        runningChecks.forEach(check -> check.cancel(true));
     }
 
     /**
@@ -576,20 +613,44 @@ public class PresenceDetection implements IPRequestReceivedCallback {
 
     /**
      * Start/Restart a fixed scheduled runner to update the devices reach-ability state.
+     * <p>
+     * The first refresh is delayed to the next free start slot of the binding (see {@link #REFRESH_START_SPACING}),
+     * so that the refreshes of all hosts are spread over the refresh interval instead of running in bursts. The
+     * runner does not wait for the result, hence it does not block a thread of the scheduler while the checks run.
      */
     public void startAutomaticRefresh() {
         ScheduledFuture<?> future = refreshJob;
         if (future != null && !future.isDone()) {
             future.cancel(true);
         }
+        long refreshMillis = refreshInterval.toMillis();
+        long initialDelay = reserveRefreshStart(NEXT_REFRESH_START, System.currentTimeMillis(),
+                REFRESH_START_SPACING.toMillis(), refreshMillis);
+        logger.trace("Starting automatic refresh of {} in {} ms", hostname, initialDelay);
         refreshJob = scheduledExecutorService.scheduleWithFixedDelay(() -> {
-            try {
-                logger.debug("Refreshing {} reachability state", hostname);
-                getValue();
-            } catch (InterruptedException | ExecutionException e) {
-                logger.debug("Failed to refresh {} presence detection", hostname, e);
-            }
-        }, 0, refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+            logger.debug("Refreshing {} reachability state", hostname);
+            cache.getValue(this::performPresenceDetection).whenComplete((value, e) -> {
+                if (e != null) {
+                    logger.debug("Failed to refresh {} presence detection", hostname, e);
+                }
+            });
+        }, initialDelay, refreshMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reserves the next start slot for an automatic refresh. Slots are at least <code>spacing</code> milliseconds
+     * apart. If more hosts are refreshed than slots fit into the refresh interval, the delay wraps around.
+     *
+     * @param nextStart the time of the last reserved slot, updated by this method
+     * @param now the current time in milliseconds
+     * @param spacing the minimum time between two slots in milliseconds
+     * @param interval the refresh interval in milliseconds
+     * @return the delay of the reserved slot in milliseconds
+     */
+    static long reserveRefreshStart(AtomicLong nextStart, long now, long spacing, long interval) {
+        long start = nextStart.updateAndGet(next -> Math.max(now, next + spacing));
+        long delay = start - now;
+        return interval > 0 ? delay % interval : delay;
     }
 
     /**
@@ -608,6 +669,7 @@ public class PresenceDetection implements IPRequestReceivedCallback {
             future.cancel(true);
             refreshJob = null;
         }
+        stopDetection();
         InetAddress cached = cachedDestination;
         if (cached != null) {
             disableDHCPListen(cached);
@@ -15,16 +15,19 @@ package org.openhab.binding.network.internal.discovery;
 import static org.openhab.binding.network.internal.NetworkBindingConstants.*;
 import static org.openhab.binding.network.internal.utils.NetworkUtils.durationToMillis;
 
+import java.net.InetSocketAddress;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +36,8 @@ import org.openhab.binding.network.internal.PresenceDetection;
 import org.openhab.binding.network.internal.PresenceDetectionListener;
 import org.openhab.binding.network.internal.PresenceDetectionValue;
 import org.openhab.binding.network.internal.utils.NetworkUtils;
+import org.openhab.core.common.NamedThreadFactory;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
 import org.openhab.core.config.discovery.DiscoveryResultBuilder;
@@ -49,12 +54,17 @@ import org.slf4j.LoggerFactory;
  * The {@link NetworkDiscoveryService} is responsible for discovering devices on
  * the current Network. It uses every Network Interface which is connected to a network.
  * It tries common TCP ports to connect to, ICMP pings and ARP pings.
+ * <p>
+ * The probes are run by a {@link SubnetSweeper}, which limits the number of probes in flight and the rate at which
+ * they are started. TCP connection attempts use non-blocking sockets, ICMP and ARP pings are run by the
+ * {@link PresenceDetection}. Devices are reported as soon as a probe succeeds.
  *
  * @author Marc Mettke - Initial contribution
  * @author David Graeff - Rewritten
  */
 @NonNullByDefault
 @Component(service = DiscoveryService.class, configurationPid = "discovery.network")
+@ConfigurableService(category = "discovery", label = "Network Discovery", description_uri = "discovery:network")
 public class NetworkDiscoveryService extends AbstractDiscoveryService implements PresenceDetectionListener {
     static final Duration PING_TIMEOUT = Duration.ofMillis(500);
     static final int MAXIMUM_IPS_PER_INTERFACE = 255;
@@ -66,8 +76,10 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     // TCP port 1025 (Xbox / MS-RPC)
     private Set<Integer> tcpServicePorts = Set.of(80, 548, 554, 1025);
     private AtomicInteger scannedIPcount = new AtomicInteger(0);
-    private @Nullable ExecutorService executorService = null;
+    private @Nullable SubnetSweeper sweeper = null;
+    private @Nullable ExecutorService probeExecutor = null;
     private final NetworkBindingConfiguration configuration = new NetworkBindingConfiguration();
+    private NetworkDiscoveryConfiguration discoveryConfiguration = new NetworkDiscoveryConfiguration();
     private final NetworkUtils networkUtils = new NetworkUtils();
 
     public NetworkDiscoveryService() {
@@ -92,17 +104,33 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
         // configuration, the values are automatically available in all handlers. Because they all
         // share the same instance.
         configuration.update(new Configuration(config).as(NetworkBindingConfiguration.class));
+        discoveryConfiguration = new Configuration(config).as(NetworkDiscoveryConfiguration.class);
+        logger.debug("Updated discovery configuration to {}", discoveryConfiguration);
     }
 
     @Override
     @Deactivate
     protected void deactivate() {
-        if (executorService != null) {
-            executorService.shutdown();
-        }
+        stopSweep();
         super.deactivate();
     }
 
+    /**
+     * The scan timeout depends on the configured number of addresses per interface, the sweeper must not be
+     * cancelled by {@link #stopScan()} before all probes had a chance to run.
+     */
+    @Override
+    public int getScanTimeout() {
+        NetworkDiscoveryConfiguration discoveryConfiguration = this.discoveryConfiguration;
+        int ips = networkUtils.getNetworkIPs(discoveryConfiguration.maxAddressesPerInterface).size();
+        double timeout = ips * (durationToMillis(PING_TIMEOUT) / 1000.0);
+        if (discoveryConfiguration.scanRate > 0) {
+            int probes = ips * (1 + tcpServicePorts.size());
+            timeout = Math.max(timeout, (double) probes / discoveryConfiguration.scanRate);
+        }
+        return Math.max(super.getScanTimeout(), (int) Math.ceil(timeout));
+    }
+
     @Override
     public void partialDetectionResult(PresenceDetectionValue value) {
         final String ip = value.getHostAddress();
@@ -121,66 +149,84 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Starts the DiscoveryThread for each IP on each interface on the network
+     * Starts a sweep probing each IP on each interface on the network
      */
     @Override
-    protected void startScan() {
-        if (executorService == null) {
-            executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
-        }
-        final ExecutorService service = executorService;
-        if (service == null) {
+    protected synchronized void startScan() {
+        if (sweeper != null) {
             return;
         }
+        NetworkDiscoveryConfiguration discoveryConfiguration = this.discoveryConfiguration;
         removeOlderResults(getTimestampOfLastScan(), null);
         logger.trace("Starting Network Device Discovery");
 
-        final Set<String> networkIPs = networkUtils.getNetworkIPs(MAXIMUM_IPS_PER_INTERFACE);
+        final Set<String> networkIPs = networkUtils.getNetworkIPs(discoveryConfiguration.maxAddressesPerInterface);
         scannedIPcount.set(0);
 
+        // The ping probes run on their own executor, so that a sweep does not delay the presence checks of things
+        ExecutorService probeExecutor = Executors.newFixedThreadPool(discoveryConfiguration.scanConcurrency,
+                new NamedThreadFactory("network-discovery", true));
+        this.probeExecutor = probeExecutor;
+
+        List<Supplier<CompletableFuture<?>>> probes = new ArrayList<>();
         for (String ip : networkIPs) {
             final PresenceDetection pd = new PresenceDetection(this, scheduler, Duration.ofSeconds(2));
+            pd.setDetectionExecutorService(probeExecutor);
             pd.setHostname(ip);
             pd.setIOSDevice(true);
             pd.setUseDhcpSniffing(false);
             pd.setTimeout(PING_TIMEOUT);
-            // Ping devices
+            // Ping devices, TCP devices are probed by the sweeper
             pd.setUseIcmpPing(true);
             pd.setUseArpPing(true, configuration.arpPingToolPath, configuration.arpPingUtilMethod);
-            // TCP devices
-            pd.setServicePorts(tcpServicePorts);
-
-            service.execute(() -> {
-                Thread.currentThread().setName("Discovery thread " + ip);
-                try {
-                    pd.getValue();
-                } catch (ExecutionException | InterruptedException e) {
-                    stopScan();
-                }
+            pd.setServicePorts(Set.of());
+
+            probes.add(() -> pd.performPresenceDetection().whenComplete((value, e) -> {
                 int count = scannedIPcount.incrementAndGet();
-                if (count == networkIPs.size()) {
-                    logger.trace("Scan of {} IPs successful", scannedIPcount);
-                    stopScan();
-                }
-            });
+                logger.trace("Scanned {} of {} IPs", count, networkIPs.size());
+            }));
+            for (int port : tcpServicePorts) {
+                probes.add(() -> SubnetSweeper.connect(new InetSocketAddress(ip, port), PING_TIMEOUT, scheduler)
+                        .thenAccept(connected -> {
+                            if (connected) {
+                                newServiceDevice(ip, port);
+                            }
+                        }));
+            }
+        }
+
+        logger.debug("Sweeping {} IPs with {} probes, at most {} in flight and {} per second", networkIPs.size(),
+                probes.size(), discoveryConfiguration.scanConcurrency, discoveryConfiguration.scanRate);
+        SubnetSweeper sweeper = new SubnetSweeper(discoveryConfiguration.scanConcurrency,
+                discoveryConfiguration.scanRate, scheduler);
+        this.sweeper = sweeper;
+        sweeper.start(probes).thenRun(() -> sweepFinished(sweeper));
+    }
+
+    private synchronized void sweepFinished(SubnetSweeper finishedSweeper) {
+        if (sweeper == finishedSweeper) {
+            logger.trace("Scan of {} IPs successful", scannedIPcount);
+            stopScan();
         }
     }
 
     @Override
     protected synchronized void stopScan() {
         super.stopScan();
-        final ExecutorService service = executorService;
-        if (service == null) {
-            return;
-        }
+        stopSweep();
+    }
 
-        try {
-            service.awaitTermination(PING_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt(); // Reset interrupt flag
+    private synchronized void stopSweep() {
+        SubnetSweeper sweeper = this.sweeper;
+        if (sweeper != null) {
+            this.sweeper = null;
+            sweeper.cancel();
+        }
+        ExecutorService probeExecutor = this.probeExecutor;
+        if (probeExecutor != null) {
+            this.probeExecutor = null;
+            probeExecutor.shutdownNow();
         }
-        service.shutdown();
-        executorService = null;
     }
 
     public static ThingUID createServiceUID(String ip, int tcpPort) {
@@ -189,7 +235,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the probes started in {@link #startScan()}.
      *
      * @param ip The device IP
      * @param tcpPort The TCP port
@@ -222,7 +268,7 @@ public class NetworkDiscoveryService extends AbstractDiscoveryService implements
     }
 
     /**
-     * Submit newly discovered devices. This method is called by the spawned threads in {@link #startScan()}.
+     * Submit newly discovered devices. This method is called by the probes started in {@link #startScan()}.
      *
      * @param ip The device IP
      */
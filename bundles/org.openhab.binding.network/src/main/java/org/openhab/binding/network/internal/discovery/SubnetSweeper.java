@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.AsynchronousSocketChannel;
+import java.nio.channels.CompletionHandler;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SubnetSweeper} runs the probes of a network scan asynchronously. At most <code>window</code> probes are
+ * in flight at the same time and probes are started at a rate of at most <code>probesPerSecond</code>, so that a scan
+ * of a large subnet neither needs a thread per probe nor floods the network.
+ * <p>
+ * A probe is started by a {@link Supplier} and is finished when the returned {@link CompletableFuture} completes.
+ * Results are reported by the probes themselves as soon as they are available.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SubnetSweeper {
+    private final Logger logger = LoggerFactory.getLogger(SubnetSweeper.class);
+
+    private final int window;
+    private final long startIntervalNanos;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier nanoClock;
+
+    private final Queue<Supplier<CompletableFuture<?>>> pendingProbes = new ArrayDeque<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private int inFlight;
+    private long nextStartNanos;
+    private @Nullable ScheduledFuture<?> pumpJob;
+
+    /**
+     * @param window the maximum number of probes in flight
+     * @param probesPerSecond the maximum number of probes started per second, or 0 for no limit
+     * @param scheduler the scheduler used for pacing and completion handling
+     */
+    public SubnetSweeper(int window, int probesPerSecond, ScheduledExecutorService scheduler) {
+        this(window, probesPerSecond, scheduler, System::nanoTime);
+    }
+
+    SubnetSweeper(int window, int probesPerSecond, ScheduledExecutorService scheduler, LongSupplier nanoClock) {
+        this.window = Math.max(1, window);
+        this.startIntervalNanos = probesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / probesPerSecond : 0;
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+        this.nextStartNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Starts the given probes.
+     *
+     * @param probes the probes in the order they should be started
+     * @return a future which completes when all probes are finished, or when the sweep is cancelled
+     */
+    public CompletableFuture<Void> start(Collection<Supplier<CompletableFuture<?>>> probes) {
+        synchronized (this) {
+            pendingProbes.addAll(probes);
+        }
+        pump();
+        return completion;
+    }
+
+    /**
+     * Cancels the sweep. Probes which are not yet started are dropped, probes in flight are not interrupted.
+     */
+    public void cancel() {
+        synchronized (this) {
+            pendingProbes.clear();
+            ScheduledFuture<?> job = pumpJob;
+            if (job != null) {
+                job.cancel(false);
+                pumpJob = null;
+            }
+        }
+        completion.complete(null);
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingProbes.size();
+    }
+
+    public synchronized int getInFlightCount() {
+        return inFlight;
+    }
+
+    private void pump() {
+        Queue<Supplier<CompletableFuture<?>>> probesToStart = new ArrayDeque<>();
+        synchronized (this) {
+            pumpJob = null;
+            while (inFlight < window && !pendingProbes.isEmpty()) {
+                long now = nanoClock.getAsLong();
+                if (nextStartNanos - now > 0) {
+                    pumpJob = scheduler.schedule(this::pump, nextStartNanos - now, TimeUnit.NANOSECONDS);
+                    break;
+                }
+                nextStartNanos = Math.max(now - startIntervalNanos, nextStartNanos) + startIntervalNanos;
+                inFlight++;
+                probesToStart.add(pendingProbes.remove());
+            }
+            if (inFlight == 0 && pendingProbes.isEmpty()) {
+                completion.complete(null);
+            }
+        }
+        for (Supplier<CompletableFuture<?>> probe : probesToStart) {
+            CompletableFuture<?> future;
+            try {
+                future = probe.get();
+            } catch (RuntimeException e) {
+                logger.debug("Failed to start probe", e);
+                future = CompletableFuture.completedFuture(null);
+            }
+            // continue on the scheduler, so that probes completing immediately don't recurse into pump()
+            future.whenCompleteAsync((result, e) -> probeFinished(), scheduler);
+        }
+    }
+
+    private void probeFinished() {
+        synchronized (this) {
+            inFlight--;
+            if (pumpJob != null) {
+                // the next probe is already scheduled
+                if (inFlight == 0 && pendingProbes.isEmpty()) {
+                    completion.complete(null);
+                }
+                return;
+            }
+        }
+        pump();
+    }
+
+    /**
+     * Tries to open a TCP connection without blocking a thread.
+     *
+     * @param address the address to connect to
+     * @param timeout the connect timeout
+     * @param scheduler the scheduler enforcing the timeout
+     * @return a future completing with <code>true</code> if the connection could be established, <code>false</code>
+     *         if it was refused, failed or timed out
+     */
+    public static CompletableFuture<Boolean> connect(InetSocketAddress address, Duration timeout,
+            ScheduledExecutorService scheduler) {
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        AsynchronousSocketChannel channel;
+        try {
+            channel = AsynchronousSocketChannel.open();
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        ScheduledFuture<?> timeoutJob = scheduler.schedule(() -> result.complete(false), timeout.toMillis(),
+                TimeUnit.MILLISECONDS);
+        result.whenComplete((connected, e) -> {
+            timeoutJob.cancel(false);
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // the probe is finished anyway
+            }
+        });
+        try {
+            channel.connect(address, null, new CompletionHandler<Void, @Nullable Object>() {
+                @Override
+                public void completed(@Nullable Void v, @Nullable Object attachment) {
+                    result.complete(true);
+                }
+
+                @Override
+                public void failed(Throwable e, @Nullable Object attachment) {
+                    result.complete(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            // e.g. an unresolved address or a closed channel
+            result.complete(false);
+        }
+        return result;
+    }
+}
@@ -21,8 +21,12 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.time.Duration;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -53,7 +57,6 @@ public class PresenceDetectionTest {
 
     private @Mock @NonNullByDefault({}) Consumer<PresenceDetectionValue> callback;
     private @Mock @NonNullByDefault({}) ExecutorService detectionExecutorService;
-    private @Mock @NonNullByDefault({}) ExecutorService waitForResultExecutorService;
     private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduledExecutorService;
     private @Mock @NonNullByDefault({}) PresenceDetectionListener listener;
     private @Mock @NonNullByDefault({}) NetworkUtils networkUtils;
@@ -65,8 +68,12 @@ public class PresenceDetectionTest {
         doReturn(ArpPingUtilEnum.IPUTILS_ARPING).when(networkUtils).determineNativeArpPingMethod(anyString());
         doReturn(IpPingMethodEnum.WINDOWS_PING).when(networkUtils).determinePingMethod();
 
+        doReturn(mock(ScheduledFuture.class)).when(scheduledExecutorService).schedule(any(Runnable.class), anyLong(),
+                any(TimeUnit.class));
+
         subject = spy(new PresenceDetection(listener, scheduledExecutorService, Duration.ofSeconds(2)));
         subject.networkUtils = networkUtils;
+        subject.detectionExecutorService = detectionExecutorService;
 
         // Set a useful configuration. The default presenceDetection is a no-op.
         subject.setHostname("127.0.0.1");
@@ -80,33 +87,99 @@ public class PresenceDetectionTest {
         assertThat(subject.pingMethod, is(IpPingMethodEnum.WINDOWS_PING));
     }
 
-    // Depending on the amount of test methods an according amount of threads is spawned.
-    // We will check if they spawn and return in time.
+    // Depending on the amount of test methods an according amount of checks is submitted to the shared executor.
+    // We will check if they are submitted and return in time.
     @Test
-    public void threadCountTest() {
-        assertNull(subject.detectionExecutorService);
-
+    public void checkCountTest() {
         doNothing().when(subject).performArpPing(any(), any());
         doNothing().when(subject).performJavaPing(any());
         doNothing().when(subject).performSystemPing(any());
         doNothing().when(subject).performServicePing(any(), anyInt());
 
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
         subject.getValue(callback -> {
         });
 
-        // Thread count: ARP + ICMP + 1*TCP
+        // Check count: ARP + ICMP + 1*TCP
         assertThat(subject.detectionChecks, is(3));
-        assertNotNull(subject.detectionExecutorService);
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
+        // Perform the different presence detection checks now
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        for (Runnable r : capture.getAllValues()) {
+            r.run();
+        }
 
         assertThat(subject.detectionChecks, is(0));
-        assertNull(subject.detectionExecutorService);
+    }
+
+    @Test
+    public void inFlightDetectionIsReused() {
+        doNothing().when(subject).performArpPing(any(), any());
+        doNothing().when(subject).performSystemPing(any());
+        doNothing().when(subject).performServicePing(any(), anyInt());
+
+        CompletableFuture<PresenceDetectionValue> first = subject.performPresenceDetection();
+        assertSame(first, subject.performPresenceDetection());
+        verify(detectionExecutorService, times(3)).execute(any());
+
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        for (Runnable r : capture.getAllValues()) {
+            r.run();
+        }
+        assertTrue(first.isDone());
+
+        // A finished detection is not reused
+        assertNotSame(first, subject.performPresenceDetection());
+        verify(detectionExecutorService, times(6)).execute(any());
+    }
+
+    @Test
+    public void checkTimeoutStartsWhenCheckRuns() {
+        doNothing().when(subject).performArpPing(any(), any());
+        doNothing().when(subject).performSystemPing(any());
+        doNothing().when(subject).performServicePing(any(), anyInt());
+
+        subject.performPresenceDetection();
+        // Queued checks have no timeout yet
+        verify(scheduledExecutorService, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        capture.getValue().run();
+        verify(scheduledExecutorService).schedule(any(Runnable.class), eq(3300L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void stopDetectionCancelsQueuedChecks() {
+        CompletableFuture<PresenceDetectionValue> detection = subject.performPresenceDetection();
+        subject.stopDetection();
+        assertTrue(detection.isDone());
+
+        // The queued checks are skipped by the executor
+        ArgumentCaptor<Runnable> capture = ArgumentCaptor.forClass(Runnable.class);
+        verify(detectionExecutorService, times(3)).execute(capture.capture());
+        for (Runnable r : capture.getAllValues()) {
+            r.run();
+        }
+        verify(subject, never()).performArpPing(any(), any());
+        verify(subject, never()).performSystemPing(any());
+        verify(subject, never()).performServicePing(any(), anyInt());
+    }
+
+    @Test
+    public void refreshStartsAreSpread() {
+        AtomicLong nextStart = new AtomicLong();
+        assertThat(PresenceDetection.reserveRefreshStart(nextStart, 1000, 100, 1000), is(0L));
+        assertThat(PresenceDetection.reserveRefreshStart(nextStart, 1000, 100, 1000), is(100L));
+        assertThat(PresenceDetection.reserveRefreshStart(nextStart, 1050, 100, 1000), is(150L));
+        // Slots are not reserved in the past
+        assertThat(PresenceDetection.reserveRefreshStart(nextStart, 5000, 100, 1000), is(0L));
+        // Delays wrap around the refresh interval
+        for (int i = 0; i < 9; i++) {
+            PresenceDetection.reserveRefreshStart(nextStart, 5000, 100, 1000);
+        }
+        assertThat(PresenceDetection.reserveRefreshStart(nextStart, 5000, 100, 1000), is(0L));
     }
 
     @Test
@@ -117,9 +190,6 @@ public class PresenceDetectionTest {
                 anyString(), any(), any());
         doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
 
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
         subject.performPresenceDetection();
 
         assertThat(subject.detectionChecks, is(3));
@@ -131,11 +201,6 @@ public class PresenceDetectionTest {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        ArgumentCaptor<Runnable> runnableCapture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(runnableCapture.capture());
-        runnableCapture.getValue().run();
-
         assertThat(subject.detectionChecks, is(0));
 
         verify(subject, times(0)).performJavaPing(any());
@@ -158,15 +223,11 @@ public class PresenceDetectionTest {
                 anyString(), any(), any());
         doReturn(pingResult).when(networkUtils).servicePing(anyString(), anyInt(), any());
 
-        doReturn(detectionExecutorService).when(subject).getThreadsFor(3);
-        doReturn(waitForResultExecutorService).when(subject).getThreadsFor(1);
-
         // We expect no valid value
         assertTrue(subject.cache.isExpired());
         // Get value will issue a PresenceDetection internally.
         subject.getValue(callback);
         verify(subject).performPresenceDetection();
-        assertNotNull(subject.detectionExecutorService);
         // There should be no straight callback yet
         verify(callback, times(0)).accept(any());
 
@@ -177,11 +238,6 @@ public class PresenceDetectionTest {
             r.run();
         }
 
-        // "Wait" for the presence detection to finish
-        capture = ArgumentCaptor.forClass(Runnable.class);
-        verify(waitForResultExecutorService, times(1)).execute(capture.capture());
-        capture.getValue().run();
-
         // Although there are multiple partial results and a final result,
         // the getValue() consumers get the fastest response possible, and only once.
         verify(callback, times(1)).accept(any());
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.network.internal.discovery;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * Tests cases for {@link SubnetSweeper}
+ *
+ * @author agent - Initial contribution
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@NonNullByDefault
+public class SubnetSweeperTest {
+    private @Mock @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @Mock @NonNullByDefault({}) ScheduledFuture<?> scheduledFuture;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<CompletableFuture<Void>> startedProbes = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        // run completion handling directly
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scheduler).execute(any());
+        doReturn(scheduledFuture).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+    }
+
+    private List<Supplier<CompletableFuture<?>>> probes(int count) {
+        List<Supplier<CompletableFuture<?>>> probes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            probes.add(() -> {
+                CompletableFuture<Void> probe = new CompletableFuture<>();
+                startedProbes.add(probe);
+                return probe;
+            });
+        }
+        return probes;
+    }
+
+    @Test
+    public void windowLimitsProbesInFlight() {
+        SubnetSweeper sweeper = new SubnetSweeper(2, 0, scheduler, clock::get);
+        CompletableFuture<Void> completion = sweeper.start(probes(5));
+
+        assertThat(startedProbes.size(), is(2));
+        assertThat(sweeper.getPendingCount(), is(3));
+
+        startedProbes.get(0).complete(null);
+        assertThat(startedProbes.size(), is(3));
+        assertThat(sweeper.getInFlightCount(), is(2));
+
+        for (int i = 1; i < 5; i++) {
+            startedProbes.get(i).complete(null);
+        }
+        assertThat(startedProbes.size(), is(5));
+        assertThat(sweeper.getInFlightCount(), is(0));
+        assertThat(completion.isDone(), is(true));
+    }
+
+    @Test
+    public void rateLimitsProbeStarts() {
+        SubnetSweeper sweeper = new SubnetSweeper(10, 10, scheduler, clock::get);
+        sweeper.start(probes(3));
+
+        // the first probe starts immediately, the next one is paced
+        assertThat(startedProbes.size(), is(1));
+        ArgumentCaptor<Runnable> pump = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(pump.capture(), eq(TimeUnit.MILLISECONDS.toNanos(100)), eq(TimeUnit.NANOSECONDS));
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(100));
+        pump.getValue().run();
+        assertThat(startedProbes.size(), is(2));
+        verify(scheduler, times(2)).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(100)),
+                eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    public void cancelDropsPendingProbes() {
+        SubnetSweeper sweeper = new SubnetSweeper(1, 0, scheduler, clock::get);
+        CompletableFuture<Void> completion = sweeper.start(probes(3));
+
+        sweeper.cancel();
+        assertThat(completion.isDone(), is(true));
+        startedProbes.get(0).complete(null);
+        assertThat(startedProbes.size(), is(1));
+    }
+
+    @Test
+    public void connectDetectsOpenAndClosedPorts() throws Exception {
+        ScheduledExecutorService realScheduler = Executors.newSingleThreadScheduledExecutor();
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            int closedPort;
+            try (ServerSocket closed = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+                closedPort = closed.getLocalPort();
+            }
+
+            InetSocketAddress open = new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort());
+            InetSocketAddress refused = new InetSocketAddress(InetAddress.getLoopbackAddress(), closedPort);
+            assertThat(SubnetSweeper.connect(open, Duration.ofSeconds(5), realScheduler).get(10, TimeUnit.SECONDS),
+                    is(true));
+            assertThat(SubnetSweeper.connect(refused, Duration.ofSeconds(5), realScheduler).get(10, TimeUnit.SECONDS),
+                    is(false));
+        } finally {
+            realScheduler.shutdownNow();
+        }
+    }
+}
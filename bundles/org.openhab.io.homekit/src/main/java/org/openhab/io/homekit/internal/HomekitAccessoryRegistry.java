@@ -13,8 +13,8 @@
 package org.openhab.io.homekit.internal;
 
 import java.io.IOException;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
@@ -31,7 +31,8 @@ import io.github.hapjava.server.impl.HomekitRoot;
  */
 class HomekitAccessoryRegistry {
     private @Nullable HomekitRoot bridge;
-    private final Map<String, HomekitAccessory> createdAccessories = new HashMap<>();
+    // concurrent, so that the accessories can be listed while they are updated
+    private final Map<String, HomekitAccessory> createdAccessories = new ConcurrentHashMap<>();
     private int configurationRevision = 1;
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryRegistry.class);
 
@@ -91,10 +92,16 @@ class HomekitAccessoryRegistry {
         return bridge;
     }
 
+    /**
+     * Adds an accessory, or replaces the accessory previously created for the item.
+     */
     public synchronized void addRootAccessory(String itemName, HomekitAccessory accessory) {
-        createdAccessories.put(itemName, accessory);
+        HomekitAccessory oldAccessory = createdAccessories.put(itemName, accessory);
         final HomekitRoot bridge = this.bridge;
         if (bridge != null) {
+            if (oldAccessory != null) {
+                bridge.removeAccessory(oldAccessory);
+            }
             bridge.addAccessory(accessory);
         }
     }
@@ -17,12 +17,14 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
@@ -73,7 +75,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private int instance;
     private List<String> priorDummies = new ArrayList<>();
 
-    private final Set<String> pendingUpdates = new HashSet<>();
+    // items are marked dirty without waiting for updates being applied
+    private final Set<String> pendingUpdates = ConcurrentHashMap.newKeySet();
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager
             .getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON);
@@ -197,7 +200,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public synchronized void added(Item item) {
+    public void added(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -214,7 +217,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      *
      * @param item The item that has been changed or removed.
      */
-    private synchronized void markDirty(Item item) {
+    private void markDirty(Item item) {
         logger.trace("Mark dirty item {}", item.getName());
         pendingUpdates.add(item.getName());
         /*
@@ -235,7 +238,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     }
 
     @Override
-    public synchronized void removed(Item item) {
+    public void removed(Item item) {
         if (hasHomeKitMetadata(item)) {
             markDirty(item);
         }
@@ -279,8 +282,26 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         }
     }
 
+    /**
+     * Applies the pending updates. The accessories of all dirty items are created first, then they are compared with
+     * the known accessories and only the resulting changes are applied to the bridge. A new configuration revision is
+     * only made if the JSON representation of an accessory changed or accessories are missing.
+     */
     private synchronized void applyUpdates() {
         logger.trace("Apply updates");
+        final long start = System.nanoTime();
+
+        // changes which are marked dirty from now on are applied with the next run
+        final List<String> names = new ArrayList<>();
+        for (Iterator<String> iterator = pendingUpdates.iterator(); iterator.hasNext();) {
+            names.add(iterator.next());
+            iterator.remove();
+        }
+        final Map<String, Optional<AbstractHomekitAccessoryImpl>> createdAccessories = new LinkedHashMap<>();
+        for (final String name : names) {
+            logger.trace(" Add items {}", name);
+            createdAccessories.put(name, getItemOptional(name).flatMap(this::createRootAccessory));
+        }
 
         HomekitRoot bridge = accessoryRegistry.getBridge();
         if (bridge != null) {
@@ -289,20 +310,39 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
 
         try {
             boolean changed = false;
-            for (final String name : pendingUpdates) {
-                String oldValue = knownAccessories.get(name);
-                accessoryRegistry.remove(name);
-                logger.trace(" Add items {}", name);
-                getItemOptional(name).ifPresent(this::createRootAccessories);
+            int added = 0;
+            int updated = 0;
+            int removed = 0;
+            for (final Entry<String, Optional<AbstractHomekitAccessoryImpl>> entry : createdAccessories.entrySet()) {
+                final String name = entry.getKey();
+                final String oldValue = knownAccessories.get(name);
+                final boolean existing = accessoryRegistry.getAllAccessories().containsKey(name);
+                if (entry.getValue().isPresent()) {
+                    final AbstractHomekitAccessoryImpl accessory = entry.getValue().get();
+                    final String newValue = accessory.toJson();
+                    knownAccessories.put(name, newValue);
+                    // replaces the accessory in the bridge, which still holds the previous item instances
+                    accessoryRegistry.addRootAccessory(name, accessory);
+                    if (!existing) {
+                        added++;
+                    } else if (!newValue.equals(oldValue)) {
+                        updated++;
+                    }
+                } else if (existing) {
+                    // the known accessory is kept, so that checkMissingAccessories can create a dummy accessory
+                    accessoryRegistry.remove(name);
+                    removed++;
+                }
                 if (accessoryChanged(name, oldValue)) {
                     changed = true;
                 }
             }
-            pendingUpdates.clear();
             if (checkMissingAccessories() || changed) {
                 makeNewConfigurationRevision();
             }
             checkForDummyAccessories();
+            logger.debug("Applied updates of {} items in instance {} in {} ms: {} added, {} changed, {} removed",
+                    names.size(), instance, (System.nanoTime() - start) / 1000000, added, updated, removed);
         } finally {
             if (bridge != null) {
                 bridge.completeUpdateBatch();
@@ -434,22 +474,35 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
      * @param item openHAB item
      */
     private void createRootAccessories(Item item) {
+        createRootAccessory(item).ifPresent(accessory -> {
+            knownAccessories.put(item.getName(), accessory.toJson());
+            accessoryRegistry.addRootAccessory(item.getName(), accessory);
+        });
+    }
+
+    /**
+     * creates the HomeKit accessory for given openHAB item without adding it to the bridge.
+     *
+     * @param item openHAB item
+     * @return the accessory, empty if the item is not a root accessory of this bridge
+     */
+    private Optional<AbstractHomekitAccessoryImpl> createRootAccessory(Item item) {
         final List<Entry<HomekitAccessoryType, HomekitCharacteristicType>> accessoryTypes = HomekitAccessoryFactory
                 .getAccessoryTypes(item, metadataRegistry);
         if (accessoryTypes.isEmpty()) {
-            return;
+            return Optional.empty();
         }
 
         final List<GroupItem> groups = HomekitAccessoryFactory.getAccessoryGroups(item, itemRegistry, metadataRegistry);
         // Don't create accessories that are sub-accessories of other accessories
         if (groups.stream().anyMatch(g -> !HomekitAccessoryFactory.getAccessoryTypes(g, metadataRegistry).isEmpty())) {
-            return;
+            return Optional.empty();
         }
 
         final @Nullable Map<String, Object> itemConfiguration = HomekitAccessoryFactory.getItemConfiguration(item,
                 metadataRegistry);
         if (!itemIsForThisBridge(item, itemConfiguration)) {
-            return;
+            return Optional.empty();
         }
 
         final HomekitAccessoryType primaryAccessoryType = getPrimaryAccessoryType(item, accessoryTypes,
@@ -464,7 +517,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
             if (accessory.isLinkedServiceOnly()) {
                 logger.warn("Item '{}' is a '{}' which must be nested another another accessory.", taggedItem.getName(),
                         primaryAccessoryType);
-                return;
+                return Optional.empty();
             }
 
             accessoryTypes.stream().filter(aType -> !primaryAccessoryType.equals(aType.getKey()))
@@ -480,10 +533,10 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
                             logger.warn("Cannot create additional accessory {}", additionalTaggedItem);
                         }
                     });
-            knownAccessories.put(taggedItem.getName(), accessory.toJson());
-            accessoryRegistry.addRootAccessory(taggedItem.getName(), accessory);
+            return Optional.of(accessory);
         } catch (HomekitException e) {
             logger.warn("Cannot create accessory {}: {}", taggedItem, e.getMessage());
+            return Optional.empty();
         }
     }
 
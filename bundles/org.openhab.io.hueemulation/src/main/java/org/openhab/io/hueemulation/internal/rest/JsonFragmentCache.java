@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal.rest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.Gson;
+
+/**
+ * Keeps the serialized JSON of the entries of a hue data store map (like lights or groups), so that clients polling
+ * the REST API do not cause a full serialization on every request.
+ *
+ * Every entry has a stamp, the list of values its JSON depends on (like the item state and label). An entry is only
+ * serialized again if its stamp changed. The JSON for the whole map is assembled from the entry fragments and reused
+ * as long as no entry changed. Each JSON gets an entity tag, so that clients can use conditional requests.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JsonFragmentCache<T> {
+    /**
+     * A serialized JSON and its entity tag.
+     */
+    public record Json(String json, String etag) {
+    }
+
+    private record Fragment(Object entry, Object[] stamp, Json json) {
+    }
+
+    private final Function<T, Object[]> stampFunction;
+    // entity tags of a previous run must not match, so they are prefixed with the start time
+    private final String etagPrefix = Long.toHexString(System.currentTimeMillis()) + "-";
+    private final Map<String, Fragment> fragments = new HashMap<>();
+    private List<Fragment> assembledFragments = List.of();
+    private @Nullable Json assembled;
+    private long version;
+
+    /**
+     * @param stampFunction returns the values the JSON of an entry depends on, they are compared with equals
+     */
+    public JsonFragmentCache(Function<T, Object[]> stampFunction) {
+        this.stampFunction = stampFunction;
+    }
+
+    /**
+     * Returns the JSON of a single entry.
+     */
+    public synchronized Json get(Gson gson, String id, T entry) {
+        return fragment(gson, id, entry).json();
+    }
+
+    /**
+     * Returns the JSON object of all entries, in the iteration order of the map.
+     */
+    public synchronized Json getAll(Gson gson, Map<String, T> entries) {
+        List<Fragment> parts = new ArrayList<>(entries.size());
+        boolean changed = entries.size() != assembledFragments.size();
+        for (Map.Entry<String, T> entry : entries.entrySet()) {
+            Fragment fragment = fragment(gson, entry.getKey(), entry.getValue());
+            changed |= parts.size() >= assembledFragments.size() || assembledFragments.get(parts.size()) != fragment;
+            parts.add(fragment);
+        }
+        Json json = assembled;
+        if (json == null || changed) {
+            StringBuilder builder = new StringBuilder("{");
+            int i = 0;
+            for (String id : entries.keySet()) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(gson.toJson(id)).append(':').append(parts.get(i++).json().json());
+            }
+            json = new Json(builder.append('}').toString(), nextEtag());
+            assembled = json;
+            assembledFragments = parts;
+            fragments.keySet().retainAll(entries.keySet());
+        }
+        return json;
+    }
+
+    /**
+     * Removes all cached JSON.
+     */
+    public synchronized void clear() {
+        fragments.clear();
+        assembledFragments = List.of();
+        assembled = null;
+    }
+
+    private Fragment fragment(Gson gson, String id, T entry) {
+        Fragment fragment = fragments.get(id);
+        if (fragment != null && fragment.entry() == entry
+                && Arrays.equals(fragment.stamp(), stampFunction.apply(entry))) {
+            return fragment;
+        }
+        String json = gson.toJson(entry);
+        // the stamp is taken after serializing, as serializers may update the entry
+        fragment = new Fragment(entry, stampFunction.apply(entry), new Json(json, nextEtag()));
+        fragments.put(id, fragment);
+        return fragment;
+    }
+
+    private String nextEtag() {
+        return etagPrefix + Long.toHexString(++version);
+    }
+}
@@ -26,8 +26,11 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
 import javax.ws.rs.core.UriInfo;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -118,12 +121,21 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @Reference(policy = ReferencePolicy.DYNAMIC, cardinality = ReferenceCardinality.OPTIONAL)
     protected volatile @Nullable EventPublisher eventPublisher;
 
+    private final JsonFragmentCache<HueLightEntry> lightsJson = new JsonFragmentCache<>(
+            light -> new Object[] { light.item, light.item.getState(), light.item.getLabel(), light.lastCommand,
+                    light.lastHueChange, light.state, light.name });
+    private final JsonFragmentCache<HueGroupEntry> groupsJson = new JsonFragmentCache<>(
+            group -> new Object[] { group.groupItem, group.groupItem == null ? null : group.groupItem.getMembers(),
+                    group.action, group.name, group.type, group.roomclass, group.lights, group.sensors });
+
     /**
      * Registers to the {@link ItemRegistry} and enumerates currently existing items.
      */
     @Activate
     protected void activate() {
         cs.ds.resetGroupsAndLights();
+        lightsJson.clear();
+        groupsJson.clear();
 
         itemRegistry.removeRegistryChangeListener(this);
         itemRegistry.addRegistryChangeListener(this);
@@ -247,12 +259,12 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights")
     @Operation(summary = "Return all lights", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllLightsApi(@Context UriInfo uri,
+    public Response getAllLightsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights)).build();
+        return jsonResponse(request, lightsJson.getAll(cs.gson, cs.ds.lights));
     }
 
     @GET
@@ -282,13 +294,17 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/lights/{id}")
     @Operation(summary = "Return a light", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getLightApi(@Context UriInfo uri, //
+    public Response getLightApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "light id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.lights.get(id))).build();
+        HueLightEntry hueDevice = cs.ds.lights.get(id);
+        if (hueDevice == null) {
+            return Response.ok(cs.gson.toJson(hueDevice)).build();
+        }
+        return jsonResponse(request, lightsJson.get(cs.gson, id, hueDevice));
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -438,24 +454,40 @@ public class LightsAndGroups implements RegistryChangeListener<Item> {
     @GET
     @Path("{username}/groups")
     @Operation(summary = "Return all groups", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getAllGroupsApi(@Context UriInfo uri,
+    public Response getAllGroupsApi(@Context UriInfo uri, @Context Request request,
             @PathParam("username") @Parameter(description = "username") String username) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups)).build();
+        return jsonResponse(request, groupsJson.getAll(cs.gson, cs.ds.groups));
     }
 
     @GET
     @Path("{username}/groups/{id}")
     @Operation(summary = "Return a group", responses = { @ApiResponse(responseCode = "200", description = "OK") })
-    public Response getGroupApi(@Context UriInfo uri, //
+    public Response getGroupApi(@Context UriInfo uri, @Context Request request, //
             @PathParam("username") @Parameter(description = "username") String username,
             @PathParam("id") @Parameter(description = "group id") String id) {
         if (!userManagement.authorizeUser(username)) {
             return NetworkUtils.singleError(cs.gson, uri, HueResponse.UNAUTHORIZED, "Not Authorized");
         }
-        return Response.ok(cs.gson.toJson(cs.ds.groups.get(id))).build();
+        HueGroupEntry hueGroup = cs.ds.groups.get(id);
+        if (hueGroup == null) {
+            return Response.ok(cs.gson.toJson(hueGroup)).build();
+        }
+        return jsonResponse(request, groupsJson.get(cs.gson, id, hueGroup));
+    }
+
+    /**
+     * Returns the cached JSON, or "304 Not Modified" if the client already has it (If-None-Match header).
+     */
+    private Response jsonResponse(Request request, JsonFragmentCache.Json json) {
+        EntityTag etag = new EntityTag(json.etag());
+        ResponseBuilder notModified = request.evaluatePreconditions(etag);
+        if (notModified != null) {
+            return notModified.build();
+        }
+        return Response.ok(json.json()).tag(etag).build();
     }
 
     @SuppressWarnings({ "null", "unused" })
@@ -31,8 +31,10 @@ import org.openhab.core.io.monitor.MeterRegistryProvider;
 import org.openhab.core.io.rest.RESTConstants;
 import org.openhab.io.metrics.exporters.InfluxMetricsExporter;
 import org.openhab.io.metrics.exporters.JmxMetricsExporter;
+import org.openhab.io.metrics.instrumentation.OpenhabMeterFilter;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.jaxrs.whiteboard.JaxrsWhiteboardConstants;
@@ -42,6 +44,7 @@ import org.osgi.service.jaxrs.whiteboard.propertytypes.JaxrsResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
@@ -69,8 +72,7 @@ public class MetricsRestController {
     private final Logger logger = LoggerFactory.getLogger(MetricsRestController.class);
     public static final String PATH_METRICS = "metrics";
     private @Nullable CompositeMeterRegistry meterRegistry;
-    private final PrometheusMeterRegistry prometheusMeterRegistry = new PrometheusMeterRegistry(
-            PrometheusConfig.DEFAULT);
+    private final PrometheusMeterRegistry prometheusMeterRegistry = createPrometheusMeterRegistry();
     private final Set<MetricsExporter> metricsExporters = new HashSet<>();
     private @Nullable MetricsConfiguration config;
 
@@ -83,6 +85,12 @@ public class MetricsRestController {
         return prometheusMeterRegistry.scrape();
     }
 
+    private static PrometheusMeterRegistry createPrometheusMeterRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        registry.config().meterFilter(new OpenhabMeterFilter());
+        return registry;
+    }
+
     @Reference
     public void setMeterRegistryProvider(MeterRegistryProvider meterRegistryProvider) {
         CompositeMeterRegistry meterRegistry = this.meterRegistry;
@@ -91,6 +99,11 @@ public class MetricsRestController {
         }
         meterRegistry = meterRegistryProvider.getOHMeterRegistry();
         meterRegistry.add(prometheusMeterRegistry);
+        if (meterRegistry != Metrics.globalRegistry) {
+            // expose the timers which the persistence and transformation add-ons record through the Micrometer global
+            // registry as well
+            Metrics.globalRegistry.add(prometheusMeterRegistry);
+        }
         this.meterRegistry = meterRegistry;
         logger.debug("Core metrics registry retrieved and Prometheus registry added successfully.");
         updateMeterRegistry();
@@ -105,6 +118,11 @@ public class MetricsRestController {
         updateMeterRegistry();
     }
 
+    @Deactivate
+    protected void deactivate() {
+        Metrics.globalRegistry.remove(prometheusMeterRegistry);
+    }
+
     @Modified
     protected synchronized void modified(Map<@Nullable String, @Nullable Object> configuration) {
         updateConfig(configuration);
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.instrumentation;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.Configuration;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventPublisher;
+import org.openhab.core.events.EventSubscriber;
+import org.openhab.core.io.monitor.MeterRegistryProvider;
+import org.openhab.io.metrics.MetricsConfiguration;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+import org.osgi.service.component.annotations.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * The {@link EventBusLagMonitor} measures the event bus dispatch lag. It periodically posts a
+ * {@link MetricsProbeEvent} and records the time until the event is delivered back to it, i.e. how long events wait
+ * in the event bus before they are handled.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(configurationPid = "org.openhab.metrics", service = EventSubscriber.class, immediate = true)
+public class EventBusLagMonitor implements EventSubscriber {
+    private final Logger logger = LoggerFactory.getLogger(EventBusLagMonitor.class);
+
+    private final EventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private @Nullable Timer lagTimer;
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("metrics");
+    private @Nullable ScheduledFuture<?> probeJob;
+
+    @Activate
+    public EventBusLagMonitor(final @Reference EventPublisher eventPublisher,
+            final @Reference MeterRegistryProvider meterRegistryProvider,
+            Map<@Nullable String, @Nullable Object> configuration) {
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistryProvider.getOHMeterRegistry();
+        modified(configuration);
+    }
+
+    @Modified
+    protected synchronized void modified(Map<@Nullable String, @Nullable Object> configuration) {
+        MetricsConfiguration config = new Configuration(configuration).as(MetricsConfiguration.class);
+        stopProbing();
+        int interval = config.eventLagProbeIntervalInSeconds;
+        if (interval > 0) {
+            lagTimer = Timer.builder(OpenhabMeterFilter.EVENT_DISPATCH_LAG)
+                    .description("Time between posting an event and its delivery to subscribers")
+                    .register(meterRegistry);
+            probeJob = scheduler.scheduleWithFixedDelay(this::postProbe, interval, interval, TimeUnit.SECONDS);
+            logger.debug("Probing the event bus dispatch lag every {} seconds", interval);
+        }
+    }
+
+    @Deactivate
+    protected synchronized void deactivate() {
+        stopProbing();
+    }
+
+    private void stopProbing() {
+        ScheduledFuture<?> probeJob = this.probeJob;
+        if (probeJob != null) {
+            probeJob.cancel(false);
+            this.probeJob = null;
+        }
+        Timer lagTimer = this.lagTimer;
+        if (lagTimer != null) {
+            meterRegistry.remove(lagTimer);
+            this.lagTimer = null;
+        }
+    }
+
+    private void postProbe() {
+        eventPublisher.post(MetricsProbeEvent.create(System.nanoTime()));
+    }
+
+    @Override
+    public Set<String> getSubscribedEventTypes() {
+        return Set.of(MetricsProbeEvent.TYPE);
+    }
+
+    @Override
+    public void receive(Event event) {
+        Timer lagTimer = this.lagTimer;
+        if (lagTimer != null && event instanceof MetricsProbeEvent probe) {
+            try {
+                lagTimer.record(System.nanoTime() - probe.getPostedNanos(), TimeUnit.NANOSECONDS);
+            } catch (NumberFormatException e) {
+                logger.debug("Ignoring probe event with invalid payload '{}'", probe.getPayload());
+            }
+        }
+    }
+}
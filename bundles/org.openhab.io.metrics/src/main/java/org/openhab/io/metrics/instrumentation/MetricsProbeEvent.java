@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.instrumentation;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.AbstractEvent;
+
+/**
+ * The {@link MetricsProbeEvent} is posted by the {@link EventBusLagMonitor} to measure how long events wait before
+ * they are dispatched. The payload is the {@link System#nanoTime()} at which the event was posted.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MetricsProbeEvent extends AbstractEvent {
+
+    public static final String TYPE = MetricsProbeEvent.class.getSimpleName();
+    public static final String TOPIC = "openhab/metrics/probe";
+
+    public MetricsProbeEvent(String topic, String payload, @Nullable String source) {
+        super(topic, payload, source);
+    }
+
+    public static MetricsProbeEvent create(long postedNanos) {
+        return new MetricsProbeEvent(TOPIC, Long.toString(postedNanos), null);
+    }
+
+    /**
+     * @return the {@link System#nanoTime()} at which the event was posted
+     */
+    public long getPostedNanos() {
+        return Long.parseLong(getPayload());
+    }
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public String toString() {
+        return "Metrics probe posted at " + getPayload();
+    }
+}
@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.instrumentation;
+
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.events.AbstractEventFactory;
+import org.openhab.core.events.Event;
+import org.openhab.core.events.EventFactory;
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * The {@link MetricsProbeEventFactory} creates {@link MetricsProbeEvent}s, so they can be dispatched by the event bus.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@Component(service = EventFactory.class, immediate = true)
+public class MetricsProbeEventFactory extends AbstractEventFactory {
+
+    public MetricsProbeEventFactory() {
+        super(Set.of(MetricsProbeEvent.TYPE));
+    }
+
+    @Override
+    protected Event createEventByType(String eventType, String topic, String payload, @Nullable String source)
+            throws Exception {
+        if (!MetricsProbeEvent.TYPE.equals(eventType)) {
+            throw new IllegalArgumentException("The event type '" + eventType + "' is not supported by this factory.");
+        }
+        return new MetricsProbeEvent(topic, payload, source);
+    }
+}
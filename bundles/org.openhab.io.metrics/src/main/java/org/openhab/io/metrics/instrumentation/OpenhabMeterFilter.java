@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.metrics.instrumentation;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * The {@link OpenhabMeterFilter} publishes the median, 95th and 99th percentile of the openHAB latency timers.
+ * Percentiles are computed in the JVM over a sliding window, so they are cheap and need no histogram buckets.
+ *
+ * The persistence and transformation add-ons record their timers through the Micrometer global registry:
+ * <ul>
+ * <li>{@value #PERSISTENCE_STORE} with the tag <code>service</code></li>
+ * <li>{@value #PERSISTENCE_QUERY} with the tag <code>service</code></li>
+ * <li>{@value #TRANSFORMATION_EXECUTION} with the tag <code>type</code></li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OpenhabMeterFilter implements MeterFilter {
+
+    public static final String PERSISTENCE_STORE = "openhab.persistence.store";
+    public static final String PERSISTENCE_QUERY = "openhab.persistence.query";
+    public static final String TRANSFORMATION_EXECUTION = "openhab.transformation.execution";
+    public static final String EVENT_DISPATCH_LAG = "openhab.event.dispatch.lag";
+
+    private static final List<String> PREFIXES = List.of("openhab.persistence.", "openhab.transformation.",
+            "openhab.event.dispatch.");
+    private static final double[] PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    @Override
+    public @Nullable DistributionStatisticConfig configure(Meter.Id id,
+            @Nullable DistributionStatisticConfig config) {
+        String name = id.getName();
+        if (PREFIXES.stream().noneMatch(name::startsWith)) {
+            return config;
+        }
+        return DistributionStatisticConfig.builder().percentiles(PERCENTILES).build().merge(config);
+    }
+}
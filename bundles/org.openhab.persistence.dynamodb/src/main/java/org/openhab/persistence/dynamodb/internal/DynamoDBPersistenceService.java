@@ -28,6 +28,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.measure.Unit;
@@ -62,6 +63,8 @@ import org.reactivestreams.Subscriber;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.awscore.defaultsmode.DefaultsMode;
@@ -120,6 +123,13 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     private @Nullable URI endpointOverride;
 
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", "dynamodb")
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", "dynamodb")
+            .register(Metrics.globalRegistry);
+
     void overrideConfig(AwsRequestOverrideConfiguration.Builder config) {
         config.apiCallAttemptTimeout(TIMEOUT_API_CALL_ATTEMPT).apiCallTimeout(TIMEOUT_API_CALL);
     }
@@ -350,6 +360,15 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         logIfManyQueuedTasks();
         Instant start = Instant.now();
         String filterDescription = filterToString(filter);
@@ -531,6 +550,7 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
         final GenericItem copiedItem = copyItem(itemTemplate, item, effectiveName, null, unitProvider);
 
         resolveTableSchema().thenAcceptAsync(resolved -> {
+            long start = System.nanoTime();
             if (!resolved) {
                 logger.warn("Table schema not resolved, not storing item {}.", copiedItem.getName());
                 return;
@@ -575,7 +595,9 @@ public class DynamoDBPersistenceService implements QueryablePersistenceService {
                     return new TableCreatingPutItem<>(DynamoDBPersistenceService.this, dynamoStringItem,
                             getTable(DynamoDBStringItem.class));
                 }
-            }).putItemAsync();
+            }).putItemAsync().whenComplete((result, error) -> {
+                storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            });
         }, executor).exceptionally(e -> {
             logger.error("Unexcepted error", e);
             return null;
@@ -14,6 +14,7 @@ package org.openhab.persistence.influxdb;
 
 import static org.openhab.persistence.influxdb.internal.InfluxDBConstants.*;
 
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -25,15 +26,17 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
@@ -52,6 +55,7 @@ import org.openhab.core.types.UnDefType;
 import org.openhab.persistence.influxdb.internal.FilterCriteriaQueryCreator;
 import org.openhab.persistence.influxdb.internal.InfluxDBConfiguration;
 import org.openhab.persistence.influxdb.internal.InfluxDBHistoricItem;
+import org.openhab.persistence.influxdb.internal.InfluxDBJournal;
 import org.openhab.persistence.influxdb.internal.InfluxDBMetadataService;
 import org.openhab.persistence.influxdb.internal.InfluxDBPersistentItemInfo;
 import org.openhab.persistence.influxdb.internal.InfluxDBRepository;
@@ -69,6 +73,9 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the InfluxDB {@link PersistenceService}. It
  * persists item values using the <a href="http://influxdb.org">InfluxDB</a> time
@@ -82,6 +89,10 @@ import org.slf4j.LoggerFactory;
  * {@link org.openhab.persistence.influxdb.internal.influx1} and
  * {@link org.openhab.persistence.influxdb.internal.influx2} packages
  *
+ * Points are written asynchronously in batches. The batch size is halved when a write fails and grows again with
+ * successful writes. Points which do not fit into the bounded queue or cannot be written are appended to an
+ * {@link InfluxDBJournal} on disk, which is replayed in order once the database is available again.
+ *
  * @author Theo Weiss - Initial contribution, rewrite of
  *         org.openhab.persistence.influxdb
  * @author Joan Pujol Espinar - Addon rewrite refactoring code and adding
@@ -99,6 +110,8 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
     private final Logger logger = LoggerFactory.getLogger(InfluxDBPersistenceService.class);
 
     private static final int COMMIT_INTERVAL = 3; // in s
+    private static final int MIN_BATCH_SIZE = 100;
+    private static final Path JOURNAL_DIR = Path.of(OpenHAB.getUserDataFolder(), "persistence", "influxdb");
     protected static final String CONFIG_URI = "persistence:influxdb";
 
     // External dependencies
@@ -111,7 +124,18 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     // storage
     private final ScheduledFuture<?> storeJob;
-    private final BlockingQueue<InfluxPoint> pointsQueue = new LinkedBlockingQueue<>();
+    private final BlockingQueue<InfluxPoint> pointsQueue;
+    // points which did not fit into the queue, they are journaled in batches
+    private final List<InfluxPoint> overflowPoints = new ArrayList<>();
+    private final @Nullable InfluxDBJournal journal;
+    private int batchSize;
+    private final AtomicLong droppedPoints = new AtomicLong();
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", SERVICE_NAME)
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", SERVICE_NAME)
+            .register(Metrics.globalRegistry);
 
     // conversion
     private final Set<ItemFactory> itemFactories = new HashSet<>();
@@ -123,6 +147,11 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         this.itemRegistry = itemRegistry;
         this.influxDBMetadataService = influxDBMetadataService;
         this.configuration = new InfluxDBConfiguration(config);
+        this.pointsQueue = new ArrayBlockingQueue<>(configuration.getQueueSize());
+        this.batchSize = configuration.getBatchSize();
+        this.journal = configuration.getMaxJournalSize() > 0
+                ? new InfluxDBJournal(JOURNAL_DIR, configuration.getMaxJournalSize() * 1024L * 1024L)
+                : null;
         if (configuration.isValid()) {
             this.influxDBRepository = createInfluxDBRepository();
             this.influxDBRepository.connect();
@@ -156,7 +185,18 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         commit(); // ensure we at least tried to store the data;
 
         if (!pointsQueue.isEmpty()) {
-            logger.warn("InfluxDB failed to finally store {} points.", pointsQueue.size());
+            List<InfluxPoint> points = new ArrayList<>();
+            pointsQueue.drainTo(points);
+            journalOrDrop(points);
+        }
+        journalOverflowPoints();
+        InfluxDBJournal journal = this.journal;
+        if (journal != null) {
+            if (!journal.isEmpty()) {
+                logger.info("InfluxDB journal holds {} points, they will be written after the next start.",
+                        journal.getPointCount());
+            }
+            journal.close();
         }
 
         influxDBRepository.disconnect();
@@ -213,7 +253,18 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
             if (pointsQueue.offer(point)) {
                 logger.trace("Queued {} for item {}", point, item);
             } else {
-                logger.warn("Failed to queue {} for item {}", point, item);
+                logger.debug("Queue is full, journaling {} for item {}", point, item);
+                List<InfluxPoint> overflow = null;
+                synchronized (overflowPoints) {
+                    overflowPoints.add(point);
+                    if (overflowPoints.size() >= configuration.getBatchSize()) {
+                        overflow = new ArrayList<>(overflowPoints);
+                        overflowPoints.clear();
+                    }
+                }
+                if (overflow != null) {
+                    journalOrDrop(overflow);
+                }
             }
         });
     }
@@ -234,6 +285,15 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         if (serviceActivated && checkConnection()) {
             logger.trace(
                     "Query-Filter: itemname: {}, ordering: {}, state: {},  operator: {}, getBeginDate: {}, getEndDate: {}, getPageSize: {}, getPageNumber: {}",
@@ -279,20 +339,120 @@ public class InfluxDBPersistenceService implements ModifiablePersistenceService
         return false;
     }
 
-    private void commit() {
-        if (!pointsQueue.isEmpty() && checkConnection()) {
-            List<InfluxPoint> points = new ArrayList<>();
-            pointsQueue.drainTo(points);
-            if (!influxDBRepository.write(points)) {
-                logger.warn("Re-queuing {} elements, failed to write batch.", points.size());
-                pointsQueue.addAll(points);
+    private synchronized void commit() {
+        journalOverflowPoints();
+        InfluxDBJournal journal = this.journal;
+        boolean journalEmpty = journal == null || journal.isEmpty();
+        if ((pointsQueue.isEmpty() && journalEmpty) || !checkConnection()) {
+            return;
+        }
+
+        // replay the journal first, so points are written in the order they were stored
+        while (journal != null && !journal.isEmpty()) {
+            List<InfluxPoint> points = journal.readOldest();
+            if (write(points) < points.size()) {
+                // keep the segment, rewriting points that were already written does not create duplicates
+                logger.debug("Failed to replay journal, {} points remaining.", journal.getPointCount());
                 influxDBRepository.disconnect();
+                return;
+            }
+            journal.removeOldest();
+            logger.debug("Replayed {} points from journal, {} points remaining.", points.size(),
+                    journal.getPointCount());
+        }
+
+        List<InfluxPoint> points = new ArrayList<>();
+        pointsQueue.drainTo(points);
+        int written = write(points);
+        if (written < points.size()) {
+            List<InfluxPoint> remaining = points.subList(written, points.size());
+            logger.warn("Failed to write batch, journaling {} points.", remaining.size());
+            journalOrDrop(remaining);
+            influxDBRepository.disconnect();
+        } else {
+            logger.trace("Wrote {} elements to database", points.size());
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("InfluxDB queue depth {}/{}, journal depth {}, batch size {}, dropped points {}",
+                    pointsQueue.size(), configuration.getQueueSize(), getJournalDepth(), batchSize,
+                    droppedPoints.get());
+        }
+    }
+
+    /**
+     * Writes the points in batches. Oversized batches are split: if a batch fails, the batch size is halved and the
+     * write is retried once with the smaller batch. The batch size grows again with successful writes.
+     *
+     * @param points the points to write
+     * @return the number of points written, starting from the first point
+     */
+    private int write(List<InfluxPoint> points) {
+        int written = 0;
+        boolean retried = false;
+        while (written < points.size()) {
+            int size = Math.min(batchSize, points.size() - written);
+            long start = System.nanoTime();
+            boolean success = influxDBRepository.write(points.subList(written, written + size));
+            storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (success) {
+                written += size;
+                retried = false;
+                batchSize = Math.min(configuration.getBatchSize(), batchSize * 2);
+            } else if (!retried && size > MIN_BATCH_SIZE) {
+                batchSize = Math.max(MIN_BATCH_SIZE, size / 2);
+                retried = true;
+                logger.debug("Failed to write {} points, retrying with batch size {}", size, batchSize);
             } else {
-                logger.trace("Wrote {} elements to database", points.size());
+                batchSize = Math.max(Math.min(MIN_BATCH_SIZE, configuration.getBatchSize()), batchSize / 2);
+                break;
+            }
+        }
+        return written;
+    }
+
+    private void journalOverflowPoints() {
+        List<InfluxPoint> overflow;
+        synchronized (overflowPoints) {
+            if (overflowPoints.isEmpty()) {
+                return;
             }
+            overflow = new ArrayList<>(overflowPoints);
+            overflowPoints.clear();
+        }
+        journalOrDrop(overflow);
+    }
+
+    private void journalOrDrop(List<InfluxPoint> points) {
+        InfluxDBJournal journal = this.journal;
+        if (journal == null || !journal.append(points)) {
+            droppedPoints.addAndGet(points.size());
+            logger.warn("Dropped {} points, they could neither be queued nor journaled.", points.size());
         }
     }
 
+    /**
+     * @return the number of points waiting in the queue
+     */
+    public int getQueueDepth() {
+        return pointsQueue.size();
+    }
+
+    /**
+     * @return the number of points waiting in the overflow journal
+     */
+    public long getJournalDepth() {
+        InfluxDBJournal journal = this.journal;
+        return journal == null ? 0 : journal.getPointCount();
+    }
+
+    /**
+     * @return the number of points that were dropped because they could neither be queued nor journaled
+     */
+    public long getDroppedPoints() {
+        InfluxDBJournal journal = this.journal;
+        return droppedPoints.get() + (journal == null ? 0 : journal.getDroppedCount());
+    }
+
     /**
      * Convert incoming data to an {@link InfluxPoint} for further processing. This is needed because storage is
      * asynchronous and the item data may have changed.
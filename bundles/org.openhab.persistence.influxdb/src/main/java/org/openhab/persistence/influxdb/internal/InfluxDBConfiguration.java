@@ -39,6 +39,9 @@ public class InfluxDBConfiguration {
     public static final String ADD_CATEGORY_TAG_PARAM = "addCategoryTag";
     public static final String ADD_LABEL_TAG_PARAM = "addLabelTag";
     public static final String ADD_TYPE_TAG_PARAM = "addTypeTag";
+    public static final String QUEUE_SIZE_PARAM = "queueSize";
+    public static final String BATCH_SIZE_PARAM = "batchSize";
+    public static final String MAX_JOURNAL_SIZE_PARAM = "maxJournalSize";
     private final Logger logger = LoggerFactory.getLogger(InfluxDBConfiguration.class);
     private final String url;
     private final String user;
@@ -51,6 +54,9 @@ public class InfluxDBConfiguration {
     private final boolean addCategoryTag;
     private final boolean addTypeTag;
     private final boolean addLabelTag;
+    private final int queueSize;
+    private final int batchSize;
+    private final int maxJournalSize;
 
     public InfluxDBConfiguration(Map<String, Object> config) {
         url = ConfigParser.valueAsOrElse(config.get(URL_PARAM), String.class, "http://127.0.0.1:8086");
@@ -64,6 +70,10 @@ public class InfluxDBConfiguration {
         addCategoryTag = ConfigParser.valueAsOrElse(config.get(ADD_CATEGORY_TAG_PARAM), Boolean.class, false);
         addLabelTag = ConfigParser.valueAsOrElse(config.get(ADD_LABEL_TAG_PARAM), Boolean.class, false);
         addTypeTag = ConfigParser.valueAsOrElse(config.get(ADD_TYPE_TAG_PARAM), Boolean.class, false);
+        queueSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(QUEUE_SIZE_PARAM), Integer.class, 10000));
+        batchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get(BATCH_SIZE_PARAM), Integer.class, 5000));
+        maxJournalSize = Math.max(0,
+                ConfigParser.valueAsOrElse(config.get(MAX_JOURNAL_SIZE_PARAM), Integer.class, 100));
     }
 
     private InfluxDBVersion parseInfluxVersion(@Nullable String value) {
@@ -142,6 +152,27 @@ public class InfluxDBConfiguration {
         return addLabelTag;
     }
 
+    /**
+     * @return the maximum number of points waiting to be written
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * @return the maximum number of points written in one request
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @return the maximum size of the overflow journal in MB, 0 if the journal is disabled
+     */
+    public int getMaxJournalSize() {
+        return maxJournalSize;
+    }
+
     public String getUser() {
         return user;
     }
@@ -160,6 +191,7 @@ public class InfluxDBConfiguration {
                 + " chars', token='" + token.length() + " chars', databaseName='" + databaseName
                 + "', retentionPolicy='" + retentionPolicy + "', version=" + version + ", replaceUnderscore="
                 + replaceUnderscore + ", addCategoryTag=" + addCategoryTag + ", addTypeTag=" + addTypeTag
-                + ", addLabelTag=" + addLabelTag + '}';
+                + ", addLabelTag=" + addLabelTag + ", queueSize=" + queueSize + ", batchSize=" + batchSize
+                + ", maxJournalSize=" + maxJournalSize + '}';
     }
 }
@@ -0,0 +1,383 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Disk-backed overflow journal for points which could not be written to InfluxDB or did not fit into the write queue.
+ * Points are appended to segment files, which are replayed and removed in the order they were written. The journal
+ * survives restarts of the service. The number of points of a segment is written to a count file when the segment is
+ * closed, so the segments don't have to be read on startup.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBJournal {
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+    private static final String COUNT_SUFFIX = ".count";
+    private static final long SEGMENT_SIZE = 4L * 1024 * 1024;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_DECIMAL = 2;
+    private static final byte TYPE_LONG = 3;
+    private static final byte TYPE_INTEGER = 4;
+    private static final byte TYPE_DOUBLE = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+
+    private final Logger logger = LoggerFactory.getLogger(InfluxDBJournal.class);
+
+    private final Path directory;
+    private final long maxSize;
+
+    /** segment number -> points and size of the segment */
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private @Nullable DataOutputStream output;
+    private long outputSegment = -1;
+    private long pointCount = 0;
+    private long size = 0;
+    private long droppedCount = 0;
+
+    private static class Segment {
+        long points;
+        long bytes;
+
+        Segment(long points, long bytes) {
+            this.points = points;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * @param directory the directory holding the segment files
+     * @param maxSize the maximum size of all segments in bytes, the oldest segment is dropped if it is exceeded
+     */
+    public InfluxDBJournal(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        try (Stream<Path> files = Files.exists(directory) ? Files.list(directory) : Stream.empty()) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .forEach(name -> {
+                        try {
+                            long segment = Long.parseLong(
+                                    name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+                            long bytes = Files.size(segmentPath(segment));
+                            long count = readCount(segment);
+                            segments.put(segment, new Segment(count, bytes));
+                            pointCount += count;
+                            size += bytes;
+                        } catch (NumberFormatException | IOException e) {
+                            logger.warn("Ignoring unreadable journal file '{}': {}", name, e.getMessage());
+                        }
+                    });
+        } catch (IOException e) {
+            logger.warn("Failed to read journal directory '{}': {}", directory, e.getMessage());
+        }
+        if (pointCount > 0) {
+            logger.info("Found {} journaled points in {} segments, they will be written once InfluxDB is available",
+                    pointCount, segments.size());
+        }
+    }
+
+    /**
+     * Appends points to the newest segment.
+     *
+     * @param points the points to append
+     * @return <code>true</code> if the points were appended, <code>false</code> if writing the journal failed
+     */
+    public synchronized boolean append(Collection<InfluxPoint> points) {
+        if (points.isEmpty()) {
+            return true;
+        }
+        try {
+            DataOutputStream out = getOutput();
+            int start = out.size();
+            for (InfluxPoint point : points) {
+                writePoint(out, point);
+            }
+            out.flush();
+            Segment current = segments.get(outputSegment);
+            if (current != null) {
+                current.points += points.size();
+                current.bytes = out.size();
+            }
+            pointCount += points.size();
+            size += out.size() - start;
+            if (out.size() >= SEGMENT_SIZE) {
+                closeOutput();
+            }
+            enforceMaxSize();
+            return true;
+        } catch (IOException e) {
+            logger.warn("Failed to write {} points to journal '{}': {}", points.size(), directory, e.getMessage());
+            closeOutput();
+            return false;
+        }
+    }
+
+    /**
+     * Reads the oldest segment. If it is the segment currently written to, a new segment is started.
+     *
+     * @return the points of the oldest segment in the order they were appended, empty if the journal is empty
+     */
+    public synchronized List<InfluxPoint> readOldest() {
+        Long segment = segments.isEmpty() ? null : segments.firstKey();
+        if (segment == null) {
+            return List.of();
+        }
+        if (segment == outputSegment) {
+            closeOutput();
+        }
+        try {
+            return read(segment);
+        } catch (IOException e) {
+            logger.warn("Failed to read journal segment {}, dropping it: {}", segment, e.getMessage());
+            removeOldest();
+            return List.of();
+        }
+    }
+
+    /**
+     * Removes the oldest segment, e.g. after its points were written successfully.
+     */
+    public synchronized void removeOldest() {
+        if (segments.isEmpty()) {
+            return;
+        }
+        long segment = segments.firstKey();
+        if (segment == outputSegment) {
+            closeOutput();
+        }
+        Segment removed = segments.remove(segment);
+        if (removed != null) {
+            pointCount -= removed.points;
+            size -= removed.bytes;
+        }
+        try {
+            Files.deleteIfExists(segmentPath(segment));
+            Files.deleteIfExists(countPath(segment));
+        } catch (IOException e) {
+            logger.warn("Failed to delete journal segment {}: {}", segment, e.getMessage());
+        }
+    }
+
+    public synchronized boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    /**
+     * @return the number of points in the journal
+     */
+    public synchronized long getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * @return the number of points dropped because the journal exceeded its maximum size
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public synchronized void close() {
+        closeOutput();
+    }
+
+    private DataOutputStream getOutput() throws IOException {
+        DataOutputStream out = output;
+        if (out == null) {
+            Files.createDirectories(directory);
+            outputSegment = segments.isEmpty() ? 0 : segments.lastKey() + 1;
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(segmentPath(outputSegment),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)));
+            segments.put(outputSegment, new Segment(0, 0));
+            output = out;
+        }
+        return out;
+    }
+
+    private void closeOutput() {
+        DataOutputStream out = output;
+        if (out != null) {
+            try {
+                out.close();
+                Segment segment = segments.get(outputSegment);
+                if (segment != null) {
+                    Files.writeString(countPath(outputSegment), Long.toString(segment.points));
+                }
+            } catch (IOException e) {
+                logger.debug("Failed to close journal segment {}: {}", outputSegment, e.getMessage());
+            }
+        }
+        output = null;
+        outputSegment = -1;
+    }
+
+    private void enforceMaxSize() {
+        while (size > maxSize && segments.size() > 1) {
+            Map.Entry<Long, Segment> oldest = segments.firstEntry();
+            long count = oldest == null ? 0 : oldest.getValue().points;
+            removeOldest();
+            droppedCount += count;
+            logger.warn("InfluxDB journal exceeds {} bytes, dropped {} oldest points", maxSize, count);
+        }
+    }
+
+    private Path segmentPath(long segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private Path countPath(long segment) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, segment, COUNT_SUFFIX));
+    }
+
+    /**
+     * Reads the number of points of a segment from its count file. If the segment was not closed, e.g. because
+     * openHAB was not shut down properly, there is no count file and the points of the segment are counted.
+     */
+    private long readCount(long segment) throws IOException {
+        Path countPath = countPath(segment);
+        if (Files.exists(countPath)) {
+            try {
+                return Long.parseLong(Files.readString(countPath).trim());
+            } catch (NumberFormatException e) {
+                logger.debug("Invalid count file of journal segment {}, counting its points", segment);
+            }
+        }
+        return read(segment).size();
+    }
+
+    private List<InfluxPoint> read(long segment) throws IOException {
+        List<InfluxPoint> points = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(segmentPath(segment))))) {
+            while (true) {
+                InfluxPoint point;
+                try {
+                    point = readPoint(in);
+                } catch (EOFException e) {
+                    // end of segment, or a point which was not written completely
+                    break;
+                }
+                points.add(point);
+            }
+        }
+        return points;
+    }
+
+    private static void writePoint(DataOutputStream out, InfluxPoint point) throws IOException {
+        writeString(out, point.getMeasurementName());
+        out.writeLong(point.getTime().getEpochSecond());
+        out.writeInt(point.getTime().getNano());
+        Object value = point.getValue();
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, string);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TYPE_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Integer intValue) {
+            out.writeByte(TYPE_INTEGER);
+            out.writeInt(intValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof Boolean booleanValue) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean(booleanValue);
+        } else if (value instanceof Number number) {
+            out.writeByte(TYPE_DECIMAL);
+            writeString(out, new BigDecimal(number.toString()).toString());
+        } else {
+            out.writeByte(TYPE_STRING);
+            writeString(out, value.toString());
+        }
+        Map<String, String> tags = point.getTags();
+        out.writeInt(tags.size());
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            writeString(out, tag.getKey());
+            writeString(out, tag.getValue());
+        }
+    }
+
+    private static InfluxPoint readPoint(DataInputStream in) throws IOException {
+        InfluxPoint.Builder builder = InfluxPoint.newBuilder(readString(in));
+        long seconds = in.readLong();
+        int nanos = in.readInt();
+        builder.withTime(Instant.ofEpochSecond(seconds, nanos));
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL -> {
+            }
+            case TYPE_STRING -> builder.withValue(readString(in));
+            case TYPE_DECIMAL -> builder.withValue(new BigDecimal(readString(in)));
+            case TYPE_LONG -> builder.withValue(in.readLong());
+            case TYPE_INTEGER -> builder.withValue(in.readInt());
+            case TYPE_DOUBLE -> builder.withValue(in.readDouble());
+            case TYPE_BOOLEAN -> builder.withValue(in.readBoolean());
+            default -> throw new IOException("Unknown value type " + type);
+        }
+        int tagCount = in.readInt();
+        for (int i = 0; i < tagCount; i++) {
+            builder.withTag(readString(in), readString(in));
+        }
+        return builder.build();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > SEGMENT_SIZE) {
+            throw new IOException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
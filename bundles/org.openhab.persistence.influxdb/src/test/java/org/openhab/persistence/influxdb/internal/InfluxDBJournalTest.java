@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.influxdb.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests the {@link InfluxDBJournal}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InfluxDBJournalTest {
+
+    private static final Instant TIME = Instant.ofEpochSecond(1700000000, 123000000);
+
+    private @TempDir @NonNullByDefault({}) Path tempDir;
+
+    private static InfluxPoint point(String measurement, Object value) {
+        return InfluxPoint.newBuilder(measurement).withTime(TIME).withValue(value).withTag("item", measurement)
+                .build();
+    }
+
+    @Test
+    public void pointsAreReadBackInOrder() {
+        InfluxDBJournal journal = new InfluxDBJournal(tempDir, 1024 * 1024);
+        journal.append(List.of(point("a", new BigDecimal("1.5")), point("b", "text")));
+        journal.append(List.of(point("c", 1), point("d", 1700000000000L)));
+
+        assertThat(journal.getPointCount(), is(4L));
+        List<InfluxPoint> points = journal.readOldest();
+        assertThat(points.size(), is(4));
+        assertThat(points.get(0).getMeasurementName(), is("a"));
+        assertThat(points.get(0).getValue(), is(new BigDecimal("1.5")));
+        assertThat(points.get(0).getTime(), is(TIME));
+        assertThat(points.get(0).getTags(), is(Map.of("item", "a")));
+        assertThat(points.get(1).getValue(), is("text"));
+        assertThat(points.get(2).getValue(), is(1));
+        assertThat(points.get(3).getValue(), is(1700000000000L));
+
+        journal.removeOldest();
+        assertThat(journal.isEmpty(), is(true));
+        assertThat(journal.getPointCount(), is(0L));
+    }
+
+    @Test
+    public void journalSurvivesRestart() {
+        InfluxDBJournal journal = new InfluxDBJournal(tempDir, 1024 * 1024);
+        journal.append(List.of(point("a", 1), point("b", 0)));
+        journal.close();
+
+        InfluxDBJournal reopened = new InfluxDBJournal(tempDir, 1024 * 1024);
+        assertThat(reopened.getPointCount(), is(2L));
+        reopened.append(List.of(point("c", 1)));
+        assertThat(reopened.getSegmentCount(), is(2));
+        assertThat(reopened.readOldest().size(), is(2));
+        reopened.removeOldest();
+        assertThat(reopened.readOldest().get(0).getMeasurementName(), is("c"));
+    }
+
+    @Test
+    public void unclosedSegmentIsCountedAfterRestart() {
+        InfluxDBJournal journal = new InfluxDBJournal(tempDir, 1024 * 1024);
+        journal.append(List.of(point("a", 1), point("b", 0), point("c", 1)));
+
+        InfluxDBJournal reopened = new InfluxDBJournal(tempDir, 1024 * 1024);
+        assertThat(reopened.getPointCount(), is(3L));
+        assertThat(reopened.readOldest().size(), is(3));
+    }
+
+    @Test
+    public void oldestSegmentIsDroppedWhenMaxSizeIsExceeded() {
+        InfluxDBJournal journal = new InfluxDBJournal(tempDir, 1);
+        journal.append(List.of(point("a", 1), point("b", 0)));
+        journal.close();
+        journal.append(List.of(point("c", 1)));
+
+        assertThat(journal.getSegmentCount(), is(1));
+        assertThat(journal.getPointCount(), is(1L));
+        assertThat(journal.getDroppedCount(), is(2L));
+        assertThat(journal.readOldest().get(0).getMeasurementName(), is("c"));
+    }
+}
@@ -0,0 +1,387 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.inmemory.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ObjLongConsumer;
+
+import javax.measure.Unit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.types.State;
+
+/**
+ * The {@link InMemoryTimeSeries} stores the persisted states of a single item in columns of primitive arrays, sorted
+ * by timestamp (epoch milliseconds).
+ * <p>
+ * Numeric states ({@link DecimalType}, {@link PercentType} and {@link QuantityType}) whose value can be represented
+ * exactly as a <code>double</code> are stored in a <code>double[]</code> column, together with the index of their type
+ * (and unit) in a per-item dictionary. All other states are interned in that dictionary and only their index is
+ * stored.
+ * <p>
+ * Readers never lock: they work on an immutable {@link Snapshot} of the columns. Writers are serialized. Appending a
+ * new latest value only writes beyond the end of the published snapshot and therefore happens in place, removing the
+ * oldest values only moves the start of the published range. Any other modification copies the columns.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class InMemoryTimeSeries {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Snapshot EMPTY = new Snapshot(new long[0], new double[0], new int[0], new Object[0], 0, 0);
+
+    private final Lock writeLock = new ReentrantLock();
+    private volatile Snapshot snapshot = EMPTY;
+
+    // only accessed by the writer
+    private final Map<Object, Integer> dictionaryIndex = new HashMap<>();
+    private Object[] dictionary = new Object[0];
+    private int dictionarySize = 0;
+
+    /**
+     * Adds a state. If a state with the same timestamp already exists, the existing state is kept.
+     *
+     * @param time the timestamp in epoch milliseconds
+     * @param state the state
+     * @param maxEntries the maximum number of entries to keep, oldest entries are removed first (0 = unlimited)
+     */
+    public void add(long time, State state, long maxEntries) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            int index = current.search(time);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+
+            double value = 0;
+            NumericKind numericKind = NumericKind.of(state);
+            int kind;
+            if (numericKind != null) {
+                kind = intern(numericKind);
+                value = numericKind.value(state);
+            } else {
+                kind = intern(state);
+            }
+
+            Snapshot updated;
+            if (insertAt == current.end && current.end < current.times.length) {
+                // append in place, the slot is not visible to any reader
+                current.times[insertAt] = time;
+                current.values[insertAt] = value;
+                current.kinds[insertAt] = kind;
+                updated = new Snapshot(current.times, current.values, current.kinds, dictionary, current.start,
+                        current.end + 1);
+            } else {
+                int size = current.size();
+                int capacity = Math.max(INITIAL_CAPACITY, (size + 1) * 2);
+                long[] times = new long[capacity];
+                double[] values = new double[capacity];
+                int[] kinds = new int[capacity];
+                int before = insertAt - current.start;
+                System.arraycopy(current.times, current.start, times, 0, before);
+                System.arraycopy(current.values, current.start, values, 0, before);
+                System.arraycopy(current.kinds, current.start, kinds, 0, before);
+                times[before] = time;
+                values[before] = value;
+                kinds[before] = kind;
+                int after = current.end - insertAt;
+                System.arraycopy(current.times, insertAt, times, before + 1, after);
+                System.arraycopy(current.values, insertAt, values, before + 1, after);
+                System.arraycopy(current.kinds, insertAt, kinds, before + 1, after);
+                updated = new Snapshot(times, values, kinds, dictionary, 0, size + 1);
+            }
+            snapshot = updated;
+            trimUnlocked(maxEntries);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest states until at most <code>maxEntries</code> are left.
+     *
+     * @param maxEntries the maximum number of entries to keep (0 = unlimited)
+     */
+    public void trim(long maxEntries) {
+        writeLock.lock();
+        try {
+            trimUnlocked(maxEntries);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes all states between <code>begin</code> and <code>end</code> (both inclusive) that match the filter.
+     *
+     * @param begin the first timestamp in epoch milliseconds
+     * @param end the last timestamp in epoch milliseconds
+     * @param filter the filter, called with the state and the timestamp
+     * @return the number of removed states
+     */
+    public int remove(long begin, long end, StatePredicate filter) {
+        writeLock.lock();
+        try {
+            Snapshot current = snapshot;
+            int from = current.lowerBound(begin);
+            int to = current.upperBound(end);
+            if (from >= to) {
+                return 0;
+            }
+            int size = current.size();
+            long[] times = new long[Math.max(INITIAL_CAPACITY, size)];
+            double[] values = new double[times.length];
+            int[] kinds = new int[times.length];
+            int count = 0;
+            for (int i = current.start; i < current.end; i++) {
+                if (i >= from && i < to && filter.test(current.state(i), current.times[i])) {
+                    continue;
+                }
+                times[count] = current.times[i];
+                values[count] = current.values[i];
+                kinds[count] = current.kinds[i];
+                count++;
+            }
+            if (count == size) {
+                return 0;
+            }
+            snapshot = new Snapshot(times, values, kinds, dictionary, 0, count);
+            compactDictionary();
+            return size - count;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Passes all states between <code>begin</code> and <code>end</code> (both inclusive) to the consumer.
+     *
+     * @param begin the first timestamp in epoch milliseconds
+     * @param end the last timestamp in epoch milliseconds
+     * @param ascending true to iterate from oldest to newest, false for the reverse order
+     * @param consumer the consumer, called with the state and the timestamp
+     */
+    public void forEach(long begin, long end, boolean ascending, ObjLongConsumer<State> consumer) {
+        Snapshot current = snapshot;
+        int from = current.lowerBound(begin);
+        int to = current.upperBound(end);
+        if (ascending) {
+            for (int i = from; i < to; i++) {
+                consumer.accept(current.state(i), current.times[i]);
+            }
+        } else {
+            for (int i = to - 1; i >= from; i--) {
+                consumer.accept(current.state(i), current.times[i]);
+            }
+        }
+    }
+
+    public int size() {
+        return snapshot.size();
+    }
+
+    /**
+     * @return the oldest timestamp in epoch milliseconds or <code>null</code> if the series is empty
+     */
+    public @Nullable Long earliest() {
+        Snapshot current = snapshot;
+        return current.size() == 0 ? null : current.times[current.start];
+    }
+
+    /**
+     * @return the latest timestamp in epoch milliseconds or <code>null</code> if the series is empty
+     */
+    public @Nullable Long latest() {
+        Snapshot current = snapshot;
+        return current.size() == 0 ? null : current.times[current.end - 1];
+    }
+
+    private void trimUnlocked(long maxEntries) {
+        Snapshot current = snapshot;
+        if (maxEntries <= 0 || current.size() <= maxEntries) {
+            return;
+        }
+        snapshot = new Snapshot(current.times, current.values, current.kinds, current.dictionary,
+                (int) (current.end - maxEntries), current.end);
+        compactDictionary();
+    }
+
+    private int intern(Object key) {
+        Integer index = dictionaryIndex.get(key);
+        if (index != null) {
+            return index;
+        }
+        if (dictionarySize == dictionary.length) {
+            dictionary = Arrays.copyOf(dictionary, Math.max(4, dictionarySize * 2));
+        }
+        dictionary[dictionarySize] = key;
+        dictionaryIndex.put(key, dictionarySize);
+        return dictionarySize++;
+    }
+
+    /**
+     * Drops dictionary entries which are no longer referenced, e.g. interned strings of removed states. This only
+     * happens if the dictionary has grown considerably larger than the number of stored states.
+     */
+    private void compactDictionary() {
+        Snapshot current = snapshot;
+        int size = current.size();
+        if (dictionarySize <= INITIAL_CAPACITY || dictionarySize <= size * 2) {
+            return;
+        }
+        Object[] oldDictionary = dictionary;
+        int[] mapping = new int[dictionarySize];
+        Arrays.fill(mapping, -1);
+        dictionaryIndex.clear();
+        dictionary = new Object[Math.max(4, Math.min(dictionarySize, size))];
+        dictionarySize = 0;
+        int[] kinds = new int[Math.max(INITIAL_CAPACITY, size)];
+        for (int i = 0; i < size; i++) {
+            int oldKind = current.kinds[current.start + i];
+            if (mapping[oldKind] < 0) {
+                mapping[oldKind] = intern(oldDictionary[oldKind]);
+            }
+            kinds[i] = mapping[oldKind];
+        }
+        long[] times = Arrays.copyOfRange(current.times, current.start, current.start + kinds.length);
+        double[] values = Arrays.copyOfRange(current.values, current.start, current.start + kinds.length);
+        snapshot = new Snapshot(times, values, kinds, dictionary, 0, size);
+    }
+
+    /**
+     * Predicate on a state and its timestamp.
+     */
+    @FunctionalInterface
+    public interface StatePredicate {
+        boolean test(State state, long time);
+    }
+
+    /**
+     * Immutable view of the columns. Only the range <code>[start, end)</code> is valid.
+     */
+    private record Snapshot(long[] times, double[] values, int[] kinds, Object[] dictionary, int start, int end) {
+
+        int size() {
+            return end - start;
+        }
+
+        State state(int index) {
+            Object entry = dictionary[kinds[index]];
+            if (entry instanceof NumericKind numericKind) {
+                return numericKind.toState(values[index]);
+            }
+            return (State) entry;
+        }
+
+        /**
+         * @return the index of the timestamp or <code>-(insertion point) - 1</code>
+         */
+        int search(long time) {
+            return Arrays.binarySearch(times, start, end, time);
+        }
+
+        /**
+         * @return the index of the first entry with a timestamp greater or equal to <code>time</code>
+         */
+        int lowerBound(long time) {
+            int low = start;
+            int high = end;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] < time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * @return the index of the first entry with a timestamp greater than <code>time</code>
+         */
+        int upperBound(long time) {
+            int low = start;
+            int high = end;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (times[mid] <= time) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * Type (and unit) of a numeric state stored in the <code>double[]</code> column. The scale of the original value is
+     * kept as well, so that e.g. <code>1</code> is not restored as <code>1.0</code>.
+     */
+    private record NumericKind(Class<? extends State> type, @Nullable Unit<?> unit, int scale) {
+
+        /**
+         * @return the kind of the state or <code>null</code> if it can not be stored as <code>double</code> without
+         *         loss of precision
+         */
+        static @Nullable NumericKind of(State state) {
+            BigDecimal decimal;
+            NumericKind kind;
+            if (state.getClass() == DecimalType.class || state.getClass() == PercentType.class) {
+                decimal = ((DecimalType) state).toBigDecimal();
+                kind = new NumericKind(state.getClass(), null, decimal.scale());
+            } else if (state instanceof QuantityType<?> quantity && state.getClass() == QuantityType.class) {
+                decimal = quantity.toBigDecimal();
+                kind = new NumericKind(QuantityType.class, quantity.getUnit(), decimal.scale());
+            } else {
+                return null;
+            }
+            double value = decimal.doubleValue();
+            if (Double.isInfinite(value) || BigDecimal.valueOf(value).compareTo(decimal) != 0) {
+                return null;
+            }
+            return kind;
+        }
+
+        double value(State state) {
+            if (state instanceof QuantityType<?> quantity) {
+                return quantity.doubleValue();
+            }
+            return ((DecimalType) state).doubleValue();
+        }
+
+        State toState(double value) {
+            BigDecimal decimal = BigDecimal.valueOf(value).setScale(scale);
+            Unit<?> unit = this.unit;
+            if (unit != null) {
+                return new QuantityType<>(decimal, unit);
+            } else if (type == PercentType.class) {
+                return new PercentType(decimal);
+            }
+            return new DecimalType(decimal);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -34,8 +35,11 @@ import org.mockito.quality.Strictness;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.PercentType;
+import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.persistence.FilterCriteria;
 import org.openhab.core.persistence.HistoricItem;
 import org.openhab.core.types.State;
@@ -275,4 +279,73 @@ public class InMemoryPersistenceTests {
 
         // begin date is before first date is already covered by case #1
     }
+
+    @Test
+    public void statesAreRestoredWithTypeAndUnit() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        List<State> states = List.of(new DecimalType(1.5), new PercentType(42),
+                new QuantityType<>(21.3, SIUnits.CELSIUS), new DecimalType("0.1000000000000000000001"),
+                new HSBType("120,100,100"), OnOffType.ON, new StringType("value"), OnOffType.ON);
+        for (int i = 0; i < states.size(); i++) {
+            service.store(item, start.plusMinutes(i), states.get(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, is(states));
+        assertThat(resultSet.get(0), is(instanceOf(DecimalType.class)));
+        assertThat(resultSet.get(1), is(instanceOf(PercentType.class)));
+        assertThat(((QuantityType<?>) resultSet.get(2)).getUnit(), is(SIUnits.CELSIUS));
+    }
+
+    @Test
+    public void numericStatesKeepTheirScale() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        List<State> states = List.of(new DecimalType("1"), new DecimalType("1.50"),
+                new QuantityType<>("20 °C"), new PercentType("42"));
+        for (int i = 0; i < states.size(); i++) {
+            service.store(item, start.plusMinutes(i), states.get(i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<String> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState().toFullString()));
+
+        assertThat(resultSet, is(List.of("1", "1.50", "20 °C", "42")));
+    }
+
+    @Test
+    public void outOfOrderStoresAreSorted() {
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        service.store(item, start.plusHours(2), new DecimalType(3));
+        service.store(item, start, new DecimalType(1));
+        service.store(item, start.plusHours(3), new DecimalType(4));
+        service.store(item, start.plusHours(1), new DecimalType(2));
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        filterCriteria.setBeginDate(start.plusMinutes(30));
+        filterCriteria.setEndDate(start.plusHours(2));
+
+        List<Integer> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(((DecimalType) h.getState()).intValue()));
+
+        assertThat(resultSet, contains(2, 3));
+    }
+
+    @Test
+    public void maxEntriesRemovesOldestStates() {
+        service.activate(Map.<String, Object> of("maxEntries", 2L));
+        ZonedDateTime start = ZonedDateTime.of(2020, 12, 1, 12, 0, 0, 0, ZoneId.systemDefault());
+        for (int i = 0; i < 5; i++) {
+            service.store(item, start.plusHours(i), new StringType("value" + i));
+        }
+
+        filterCriteria.setOrdering(FilterCriteria.Ordering.ASCENDING);
+        List<State> resultSet = new ArrayList<>();
+        service.query(filterCriteria).forEach(h -> resultSet.add(h.getState()));
+
+        assertThat(resultSet, contains(new StringType("value3"), new StringType("value4")));
+    }
 }
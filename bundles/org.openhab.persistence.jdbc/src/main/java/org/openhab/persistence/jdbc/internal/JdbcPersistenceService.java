@@ -23,6 +23,9 @@ import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -57,6 +60,9 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the JDBC {@link PersistenceService}.
  *
@@ -77,6 +83,21 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1,
             new NamedThreadFactory(JdbcPersistenceServiceConstants.SERVICE_ID));
 
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service")
+            .tag("service", JdbcPersistenceServiceConstants.SERVICE_ID).register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service")
+            .tag("service", JdbcPersistenceServiceConstants.SERVICE_ID).register(Metrics.globalRegistry);
+
+    private @Nullable JdbcWriteQueue writeQueue;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    // set while the database can't be written, the queue is then only flushed by the flush job
+    private volatile boolean flushFailing;
+    // set while values are dropped because the write queue is full, so only the first one is logged as a warning
+    private final AtomicBoolean dropping = new AtomicBoolean();
+
     @Activate
     public JdbcPersistenceService(final @Reference ItemRegistry itemRegistry,
             final @Reference TimeZoneProvider timeZoneProvider) {
@@ -120,6 +141,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("JDBC::deactivate:  persistence bundle stopping. Disconnecting from database. reason={}", reason);
+        stopWriteQueue();
         // closeConnection();
         initialized = false;
     }
@@ -137,24 +159,53 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
 
     @Override
     public void store(Item item) {
-        scheduler.execute(() -> internalStore(item, null, item.getState()));
+        enqueue(item, null, item.getState());
     }
 
     @Override
     public void store(Item item, @Nullable String alias) {
         // alias is not supported
-        scheduler.execute(() -> internalStore(item, null, item.getState()));
+        enqueue(item, null, item.getState());
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state) {
-        scheduler.execute(() -> internalStore(item, date, state));
+        enqueue(item, date, state);
     }
 
     @Override
     public void store(Item item, ZonedDateTime date, State state, @Nullable String alias) {
         // alias is not supported
-        scheduler.execute(() -> internalStore(item, date, state));
+        enqueue(item, date, state);
+    }
+
+    private void enqueue(Item item, @Nullable ZonedDateTime date, State state) {
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue == null) {
+            scheduler.execute(() -> internalStore(item, date, state));
+            return;
+        }
+        // Do not store undefined/uninitialized data
+        if (state instanceof UnDefType) {
+            logger.debug("JDBC::store: ignore Item '{}' because it is UnDefType", item.getName());
+            return;
+        }
+        // The time is taken now, otherwise it would be the time of the flush
+        ZonedDateTime time = date != null ? date : ZonedDateTime.now();
+        if (!writeQueue.offer(new JdbcWriteQueue.PendingValue(item, time, state))) {
+            if (dropping.compareAndSet(false, true)) {
+                logger.warn("JDBC::store: Write queue is full ({} entries). Cannot persist '{}' for '{}', "
+                        + "further states are dropped until the queue has been written.", writeQueue.getCapacity(),
+                        state, item.getName());
+            } else {
+                logger.debug("JDBC::store: Write queue is full. Cannot persist '{}' for '{}'!", state,
+                        item.getName());
+            }
+            return;
+        }
+        if (writeQueue.isBatchFull() && !flushFailing && flushScheduled.compareAndSet(false, true)) {
+            scheduler.execute(this::flushWriteQueue);
+        }
     }
 
     private synchronized void internalStore(Item item, @Nullable ZonedDateTime date, State state) {
@@ -171,7 +222,9 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
         try {
             long timerStart = System.currentTimeMillis();
+            long start = System.nanoTime();
             storeItemValue(item, state, date);
+            storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             if (logger.isDebugEnabled()) {
                 logger.debug("JDBC: Stored item '{}' as '{}' in SQL database at {} in {} ms.", item.getName(), state,
                         new Date(), System.currentTimeMillis() - timerStart);
@@ -181,6 +234,116 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
         }
     }
 
+    private synchronized void flushWriteQueue() {
+        flushScheduled.set(false);
+        JdbcWriteQueue writeQueue = this.writeQueue;
+        if (writeQueue == null || writeQueue.isEmpty()) {
+            return;
+        }
+        if (!checkDBAccessability()) {
+            flushFailed(
+                    "JDBC::flush: No connection to database. Keeping {} queued states! Will retry connecting to database when error count:{} equals errReconnectThreshold:{}",
+                    writeQueue.getDepth(), errCnt, conf.getErrReconnectThreshold());
+            return;
+        }
+        long timerStart = System.currentTimeMillis();
+        int stored = 0;
+        boolean failed = false;
+        for (JdbcWriteQueue.ItemBatch batch : writeQueue.drain()) {
+            if (failed) {
+                // the database is not available, keep the remaining batches for the next flush
+                writeQueue.retain(batch, false);
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                storeItemValues(batch.item(), batch.values());
+                // one batch is one store operation of the database
+                storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                stored += batch.values().size();
+            } catch (JdbcException e) {
+                failed = !isDatabaseAvailable();
+                boolean retained = writeQueue.retain(batch, !failed);
+                if (failed) {
+                    flushFailed("JDBC::flush: Unable to store {} states for item '{}', {} them: {}",
+                            batch.values().size(), batch.item().getName(), retained ? "keeping" : "dropping",
+                            e.getMessage());
+                } else if (!retained) {
+                    logger.warn("JDBC::flush: Unable to store {} states for item '{}', dropping them",
+                            batch.values().size(), batch.item().getName(), e);
+                } else {
+                    logger.debug("JDBC::flush: Unable to store {} states for item '{}', retrying with next flush",
+                            batch.values().size(), batch.item().getName(), e);
+                }
+            }
+        }
+        if (!failed && flushFailing) {
+            logger.info("JDBC::flush: Database is available again, {} states queued.", writeQueue.getDepth());
+            flushFailing = false;
+        }
+        if (!failed) {
+            dropping.set(false);
+        }
+        long duration = System.currentTimeMillis() - timerStart;
+        writeQueue.recordFlush(stored, duration);
+        if (logger.isDebugEnabled()) {
+            logger.debug("JDBC: Stored {} states in SQL database at {} in {} ms, {} states still queued.", stored,
+                    new Date(), duration, writeQueue.getDepth());
+        }
+    }
+
+    /**
+     * Logs a failed flush as warning once per outage, further failures are logged at debug level.
+     */
+    private void flushFailed(String format, @Nullable Object... arguments) {
+        if (flushFailing) {
+            logger.debug(format, arguments);
+        } else {
+            logger.warn(format, arguments);
+            flushFailing = true;
+        }
+    }
+
+    private boolean isDatabaseAvailable() {
+        try {
+            return pingDB();
+        } catch (JdbcSQLException e) {
+            return false;
+        }
+    }
+
+    private void startWriteQueue() {
+        if (!conf.isBatchingEnabled()) {
+            return;
+        }
+        writeQueue = new JdbcWriteQueue(conf.getBatchQueueSize(), conf.getBatchSize());
+        flushJob = scheduler.scheduleWithFixedDelay(this::flushWriteQueue, conf.getBatchInterval(),
+                conf.getBatchInterval(), TimeUnit.MILLISECONDS);
+        logger.debug("JDBC::startWriteQueue: batchSize={} batchInterval={} ms batchQueueSize={}",
+                conf.getBatchSize(), conf.getBatchInterval(), conf.getBatchQueueSize());
+    }
+
+    private void stopWriteQueue() {
+        ScheduledFuture<?> flushJob = this.flushJob;
+        if (flushJob != null) {
+            flushJob.cancel(false);
+            this.flushJob = null;
+        }
+        if (writeQueue != null) {
+            flushWriteQueue();
+            writeQueue = null;
+        }
+    }
+
+    /**
+     * Get the write queue, if values are written in batches.
+     *
+     * @return the {@link JdbcWriteQueue} or null if batching is disabled
+     */
+    public @Nullable JdbcWriteQueue getWriteQueue() {
+        return writeQueue;
+    }
+
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
         return getItems();
@@ -196,6 +359,15 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
      */
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         if (!checkDBAccessability()) {
             logger.warn("JDBC::query: database not connected, query aborted for item '{}'", filter.getItemName());
             return List.of();
@@ -256,6 +428,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
     public void updateConfig(Map<Object, Object> configuration) {
         logger.debug("JDBC::updateConfig");
 
+        stopWriteQueue();
         conf = new JdbcConfiguration(configuration);
         if (conf.valid && checkDBAccessability()) {
             namingStrategy = new NamingStrategy(conf);
@@ -263,6 +436,7 @@ public class JdbcPersistenceService extends JdbcMapper implements ModifiablePers
                 checkDBSchema();
                 // connection has been established ... initialization completed!
                 initialized = true;
+                startWriteQueue();
             } catch (JdbcSQLException e) {
                 logger.error("Failed to check database schema", e);
                 initialized = false;
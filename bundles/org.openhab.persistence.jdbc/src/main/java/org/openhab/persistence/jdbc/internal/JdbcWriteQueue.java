@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.items.Item;
+import org.openhab.core.types.State;
+
+/**
+ * Bounded queue of pending item values which are written to the database in batches.
+ * Values are grouped per item (and thus per table) when drained. Values of the same
+ * item with the same timestamp are coalesced, the last one wins. Batches which could not be
+ * written are retained and drained again with the next flush.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueue {
+
+    /**
+     * A single value waiting to be stored.
+     */
+    public record PendingValue(Item item, ZonedDateTime date, State state) {
+    }
+
+    /**
+     * All pending values of one item, ordered by insertion.
+     *
+     * @param failures the number of failed attempts to write the batch
+     */
+    public record ItemBatch(Item item, Map<ZonedDateTime, State> values, int failures) {
+        public ItemBatch(Item item, Map<ZonedDateTime, State> values) {
+            this(item, values, 0);
+        }
+    }
+
+    // a batch which failed this often is dropped, as the values themselves are likely to be the cause
+    private static final int MAX_FAILURES = 3;
+
+    private final BlockingQueue<PendingValue> queue;
+    private final int capacity;
+    private final int batchSize;
+
+    private final Deque<ItemBatch> retainedBatches = new ArrayDeque<>();
+    private volatile int retainedCount = 0;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong storedCount = new AtomicLong();
+    private final AtomicLong flushCount = new AtomicLong();
+    private volatile long lastFlushMillis = 0;
+    private volatile long maxFlushMillis = 0;
+
+    public JdbcWriteQueue(int capacity, int batchSize) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Adds a value to the queue without waiting.
+     *
+     * @param value the value to add
+     * @return true if the value was queued, false if it was dropped because the queue is full
+     */
+    public boolean offer(PendingValue value) {
+        if (queue.offer(value)) {
+            enqueuedCount.incrementAndGet();
+            return true;
+        }
+        droppedCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * @return true if enough values are pending to fill a batch
+     */
+    public boolean isBatchFull() {
+        return queue.size() >= batchSize;
+    }
+
+    public boolean isEmpty() {
+        return queue.isEmpty() && retainedCount == 0;
+    }
+
+    /**
+     * Removes all pending values from the queue and groups them per item. Retained batches are returned first.
+     *
+     * @return the pending values grouped per item name
+     */
+    public synchronized Collection<ItemBatch> drain() {
+        List<ItemBatch> result = new ArrayList<>(retainedBatches);
+        retainedBatches.clear();
+        retainedCount = 0;
+        List<PendingValue> pending = new ArrayList<>(queue.size());
+        queue.drainTo(pending);
+        Map<String, ItemBatch> batches = new LinkedHashMap<>();
+        for (PendingValue value : pending) {
+            ItemBatch batch = batches.computeIfAbsent(value.item().getName(),
+                    name -> new ItemBatch(value.item(), new LinkedHashMap<>()));
+            batch.values().put(value.date(), value.state());
+        }
+        result.addAll(batches.values());
+        return result;
+    }
+
+    /**
+     * Keeps a drained batch which could not be written, so it is returned again by the next {@link #drain()}.
+     *
+     * @param batch the batch to keep
+     * @param failed true if writing the batch failed, false if it was not attempted
+     * @return true if the batch was retained, false if it was dropped because it failed too often or there is no
+     *         space left
+     */
+    public synchronized boolean retain(ItemBatch batch, boolean failed) {
+        int failures = failed ? batch.failures() + 1 : batch.failures();
+        if (failures >= MAX_FAILURES || retainedCount + batch.values().size() > capacity) {
+            droppedCount.addAndGet(batch.values().size());
+            return false;
+        }
+        retainedBatches.add(new ItemBatch(batch.item(), batch.values(), failures));
+        retainedCount += batch.values().size();
+        return true;
+    }
+
+    /**
+     * Records the outcome of a flush.
+     *
+     * @param values number of values written
+     * @param durationMillis time taken by the flush
+     */
+    public void recordFlush(int values, long durationMillis) {
+        storedCount.addAndGet(values);
+        flushCount.incrementAndGet();
+        lastFlushMillis = durationMillis;
+        if (durationMillis > maxFlushMillis) {
+            maxFlushMillis = durationMillis;
+        }
+    }
+
+    public int getDepth() {
+        return queue.size() + retainedCount;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getStoredCount() {
+        return storedCount.get();
+    }
+
+    public long getFlushCount() {
+        return flushCount.get();
+    }
+
+    public long getLastFlushMillis() {
+        return lastFlushMillis;
+    }
+
+    public long getMaxFlushMillis() {
+        return maxFlushMillis;
+    }
+}
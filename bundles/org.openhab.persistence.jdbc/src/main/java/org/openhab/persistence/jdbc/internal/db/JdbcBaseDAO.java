@@ -13,6 +13,7 @@
 package org.openhab.persistence.jdbc.internal.db;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -430,10 +431,8 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" },
-                new String[] { storedVO.getTableName(), sqlTypes.get("tablePrimaryValue") });
-        Object[] params = { storedVO.getValue(), storedVO.getValue() };
+        String sql = storeItemValueSqlProvider(storedVO, false);
+        Object[] params = storeItemValueParamsProvider(storedVO, null);
         logger.debug("JDBC::doStoreItemValue sql={} value='{}'", sql, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -444,10 +443,9 @@ public class JdbcBaseDAO {
 
     public void doStoreItemValue(Item item, State itemState, ItemVO vo, ZonedDateTime date) throws JdbcSQLException {
         ItemVO storedVO = storeItemValueProvider(item, itemState, vo);
-        String sql = StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
-                new String[] { "#tableName#", "#tablePrimaryValue#" }, new String[] { storedVO.getTableName(), "?" });
-        java.sql.Timestamp timestamp = new java.sql.Timestamp(date.toInstant().toEpochMilli());
-        Object[] params = { timestamp, storedVO.getValue(), storedVO.getValue() };
+        String sql = storeItemValueSqlProvider(storedVO, true);
+        Timestamp timestamp = new Timestamp(date.toInstant().toEpochMilli());
+        Object[] params = storeItemValueParamsProvider(storedVO, timestamp);
         logger.debug("JDBC::doStoreItemValue sql={} timestamp={} value='{}'", sql, timestamp, storedVO.getValue());
         try {
             Yank.execute(sql, params);
@@ -456,6 +454,38 @@ public class JdbcBaseDAO {
         }
     }
 
+    /**
+     * Stores several values of one item in a single JDBC batch.
+     *
+     * @param item the item the values belong to
+     * @param tableName the table of the item
+     * @param values the states to store, keyed by their timestamp
+     * @throws JdbcSQLException on SQL errors
+     */
+    public void doStoreItemValues(Item item, String tableName, Map<ZonedDateTime, State> values)
+            throws JdbcSQLException {
+        if (values.isEmpty()) {
+            return;
+        }
+        String sql = "";
+        Object[][] params = new Object[values.size()][];
+        int i = 0;
+        for (Map.Entry<ZonedDateTime, State> entry : values.entrySet()) {
+            ItemVO storedVO = storeItemValueProvider(item, entry.getValue(), new ItemVO(tableName, null));
+            if (i == 0) {
+                sql = storeItemValueSqlProvider(storedVO, true);
+            }
+            Timestamp timestamp = new Timestamp(entry.getKey().toInstant().toEpochMilli());
+            params[i++] = storeItemValueParamsProvider(storedVO, timestamp);
+        }
+        logger.debug("JDBC::doStoreItemValues sql={} rows={}", sql, params.length);
+        try {
+            Yank.executeBatch(sql, params);
+        } catch (YankSQLException e) {
+            throw new JdbcSQLException(e);
+        }
+    }
+
     public List<HistoricItem> doGetHistItemFilterQuery(Item item, FilterCriteria filter, int numberDecimalcount,
             String table, String name, ZoneId timeZone) throws JdbcSQLException {
         String sql = histItemFilterQueryProvider(filter, numberDecimalcount, table, name, timeZone);
@@ -559,6 +589,27 @@ public class JdbcBaseDAO {
         return queryString;
     }
 
+    /**
+     * Builds the insert statement for a stored value.
+     *
+     * @param storedVO the value object returned by {@link #storeItemValueProvider(Item, State, ItemVO)}
+     * @param withTimestamp true if the time is passed as first statement parameter, false to let the database
+     *            generate it using <code>tablePrimaryValue</code>
+     * @return the SQL statement
+     */
+    protected String storeItemValueSqlProvider(ItemVO storedVO, boolean withTimestamp) {
+        return StringUtilsExt.replaceArrayMerge(sqlInsertItemValue,
+                new String[] { "#tableName#", "#tablePrimaryValue#" },
+                new String[] { storedVO.getTableName(), withTimestamp ? "?" : sqlTypes.get("tablePrimaryValue") });
+    }
+
+    protected Object[] storeItemValueParamsProvider(ItemVO storedVO, @Nullable Timestamp timestamp) {
+        if (timestamp == null) {
+            return new Object[] { storedVO.getValue(), storedVO.getValue() };
+        }
+        return new Object[] { timestamp, storedVO.getValue(), storedVO.getValue() };
+    }
+
     protected ItemVO storeItemValueProvider(Item item, State itemState, ItemVO vo) {
         String itemType = getItemType(item);
 
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.persistence.jdbc.internal;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.items.NumberItem;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+import org.openhab.persistence.jdbc.internal.JdbcWriteQueue.ItemBatch;
+import org.openhab.persistence.jdbc.internal.JdbcWriteQueue.PendingValue;
+
+/**
+ * Tests the {@link JdbcWriteQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class JdbcWriteQueueTest {
+
+    private static final ZonedDateTime DATE = ZonedDateTime.of(2024, 1, 1, 12, 0, 0, 0, ZoneId.of("UTC"));
+
+    private final NumberItem item1 = new NumberItem("Item1");
+    private final NumberItem item2 = new NumberItem("Item2");
+
+    @Test
+    void drainGroupsValuesPerItemAndCoalescesSameTimestamp() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 5);
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(1)));
+        queue.offer(new PendingValue(item2, DATE, new DecimalType(2)));
+        queue.offer(new PendingValue(item1, DATE.plusSeconds(1), new DecimalType(3)));
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(4)));
+
+        List<ItemBatch> batches = new ArrayList<>(queue.drain());
+
+        assertThat(batches.size(), is(2));
+        assertThat(batches.get(0).item().getName(), is("Item1"));
+        assertThat(new ArrayList<State>(batches.get(0).values().values()),
+                is(List.of(new DecimalType(4), new DecimalType(3))));
+        assertThat(batches.get(1).item().getName(), is("Item2"));
+        assertThat(batches.get(1).values().size(), is(1));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    void isBatchFullWhenBatchSizeIsReached() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 2);
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(1)));
+        assertThat(queue.isBatchFull(), is(false));
+        queue.offer(new PendingValue(item1, DATE.plusSeconds(1), new DecimalType(2)));
+        assertThat(queue.isBatchFull(), is(true));
+    }
+
+    @Test
+    void offerDropsValueWhenQueueIsFull() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(1, 1);
+        assertThat(queue.offer(new PendingValue(item1, DATE, new DecimalType(1))), is(true));
+        assertThat(queue.offer(new PendingValue(item1, DATE.plusSeconds(1), new DecimalType(2))), is(false));
+        assertThat(queue.getEnqueuedCount(), is(1L));
+        assertThat(queue.getDroppedCount(), is(1L));
+        assertThat(queue.getDepth(), is(1));
+    }
+
+    @Test
+    void retainedBatchesAreDrainedFirst() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 5);
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(1)));
+        ItemBatch failed = queue.drain().iterator().next();
+        queue.offer(new PendingValue(item2, DATE, new DecimalType(2)));
+
+        assertThat(queue.retain(failed, true), is(true));
+        assertThat(queue.getDepth(), is(2));
+
+        List<ItemBatch> batches = new ArrayList<>(queue.drain());
+        assertThat(batches.size(), is(2));
+        assertThat(batches.get(0).item().getName(), is("Item1"));
+        assertThat(batches.get(0).failures(), is(1));
+        assertThat(batches.get(1).item().getName(), is("Item2"));
+        assertThat(queue.isEmpty(), is(true));
+    }
+
+    @Test
+    void batchIsDroppedAfterRepeatedFailures() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 5);
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(1)));
+        ItemBatch batch = queue.drain().iterator().next();
+
+        assertThat(queue.retain(batch, true), is(true));
+        batch = queue.drain().iterator().next();
+        assertThat(queue.retain(batch, true), is(true));
+        batch = queue.drain().iterator().next();
+        assertThat(queue.retain(batch, true), is(false));
+        assertThat(queue.isEmpty(), is(true));
+        assertThat(queue.getDroppedCount(), is(1L));
+    }
+
+    @Test
+    void batchIsKeptWhenWritingWasNotAttempted() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 5);
+        queue.offer(new PendingValue(item1, DATE, new DecimalType(1)));
+        ItemBatch batch = queue.drain().iterator().next();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(queue.retain(batch, false), is(true));
+            batch = queue.drain().iterator().next();
+        }
+        assertThat(batch.failures(), is(0));
+    }
+
+    @Test
+    void recordFlushUpdatesCounters() {
+        JdbcWriteQueue queue = new JdbcWriteQueue(10, 5);
+        queue.recordFlush(3, 20);
+        queue.recordFlush(2, 10);
+        assertThat(queue.getStoredCount(), is(5L));
+        assertThat(queue.getFlushCount(), is(2L));
+        assertThat(queue.getLastFlushMillis(), is(10L));
+        assertThat(queue.getMaxFlushMillis(), is(20L));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -43,6 +44,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -75,6 +78,13 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     private boolean initialized;
 
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
+
     @Activate
     public JpaPersistenceService(BundleContext context, Map<String, @Nullable Object> properties,
             final @Reference ItemRegistry itemRegistry) {
@@ -156,6 +166,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
         pItem.setRealName(item.getName());
         pItem.setTimestamp(new Date());
 
+        long start = System.nanoTime();
         EntityManager em = getEntityManagerFactory().createEntityManager();
         try {
             logger.debug("Persisting item...");
@@ -175,6 +186,7 @@ public class JpaPersistenceService implements QueryablePersistenceService {
             em.getTransaction().rollback();
         } finally {
             em.close();
+            storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         logger.debug("Storing item...done");
@@ -187,6 +199,15 @@ public class JpaPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         logger.debug("Querying for historic item: {}", filter.getItemName());
 
         if (!initialized) {
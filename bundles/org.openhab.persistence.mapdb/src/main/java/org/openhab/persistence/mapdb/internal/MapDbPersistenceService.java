@@ -18,13 +18,20 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -34,6 +41,8 @@ import org.mapdb.DB;
 import org.mapdb.DBMaker;
 import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
+import org.openhab.core.config.core.ConfigurableService;
 import org.openhab.core.items.Item;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.persistence.FilterCriteria;
@@ -48,24 +57,43 @@ import org.osgi.framework.Constants;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the MapDB {@link PersistenceService}. To learn more about MapDB please visit their
  * <a href="http://www.mapdb.org/">website</a>.
  *
+ * Stored states are kept in a map of pending entries, which only holds the latest state of each item. The pending
+ * entries are committed to the database after every store, or - if a commit interval is configured - when the
+ * interval has passed, when enough entries are pending, and at shutdown.
+ *
  * @author Jens Viebig - Initial contribution
  * @author Martin Kühl - Port to 3.x
  */
 @NonNullByDefault
-@Component(service = { PersistenceService.class, QueryablePersistenceService.class }, property = Constants.SERVICE_PID
-        + "=org.openhab.mapdb")
+@Component(service = { PersistenceService.class,
+        QueryablePersistenceService.class }, configurationPid = "org.openhab.mapdb", //
+        property = Constants.SERVICE_PID + "=org.openhab.mapdb")
+@ConfigurableService(category = "persistence", label = "MapDB Persistence Service", description_uri = MapDbPersistenceService.CONFIG_URI)
 public class MapDbPersistenceService implements QueryablePersistenceService {
 
+    protected static final String CONFIG_URI = "persistence:mapdb";
+    private static final String COMMIT_INTERVAL_CONFIG = "commitInterval";
+    private static final String COMMIT_SIZE_CONFIG = "commitSize";
+    private static final int COMMIT_INTERVAL_DEFAULT = 0;
+    private static final int COMMIT_SIZE_DEFAULT = 100;
+
     private static final String SERVICE_ID = "mapdb";
     private static final String SERVICE_LABEL = "MapDB";
     private static final Path DB_DIR = new File(OpenHAB.getUserDataFolder(), "persistence").toPath().resolve("mapdb");
@@ -75,6 +103,28 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
     private final Logger logger = LoggerFactory.getLogger(MapDbPersistenceService.class);
 
     private final ExecutorService threadPool = ThreadPoolManager.getPool(getClass().getSimpleName());
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("mapdb");
+
+    /**
+     * holds the latest state of each item which has not been committed yet
+     */
+    private final Map<String, MapDbItem> pendingItems = new ConcurrentHashMap<>();
+    private final AtomicBoolean commitScheduled = new AtomicBoolean();
+    private @Nullable ScheduledFuture<?> commitJob;
+    private int commitInterval = COMMIT_INTERVAL_DEFAULT;
+    private int commitSize = COMMIT_SIZE_DEFAULT;
+
+    private final AtomicLong storeCount = new AtomicLong();
+    private final AtomicLong commitCount = new AtomicLong();
+    private final AtomicLong committedEntries = new AtomicLong();
+    private volatile long activationTime = System.currentTimeMillis();
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
+    private final List<Meter> meters = new ArrayList<>();
 
     /**
      * holds the local instance of the MapDB database
@@ -87,8 +137,11 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
             .registerTypeHierarchyAdapter(State.class, new StateTypeAdapter()).create();
 
     @Activate
-    public void activate() {
+    public void activate(Map<String, Object> config) {
         logger.debug("MapDB persistence service is being activated");
+        activationTime = System.currentTimeMillis();
+        modified(config);
+        registerMeters();
 
         try {
             Files.createDirectories(DB_DIR);
@@ -142,12 +195,51 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         logger.debug("MapDB persistence service is now activated");
     }
 
+    @Modified
+    public void modified(Map<String, Object> config) {
+        commitInterval = ConfigParser.valueAsOrElse(config.get(COMMIT_INTERVAL_CONFIG), Integer.class,
+                COMMIT_INTERVAL_DEFAULT);
+        commitSize = ConfigParser.valueAsOrElse(config.get(COMMIT_SIZE_CONFIG), Integer.class, COMMIT_SIZE_DEFAULT);
+
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
+        if (commitInterval > 0) {
+            commitJob = scheduler.scheduleWithFixedDelay(this::commit, commitInterval, commitInterval,
+                    TimeUnit.SECONDS);
+        }
+        logger.debug("MapDB commit interval is {} s, commit size is {}", commitInterval, commitSize);
+    }
+
     @Deactivate
     public void deactivate() {
         logger.debug("MapDB persistence service deactivated");
+        ScheduledFuture<?> job = commitJob;
+        if (job != null) {
+            job.cancel(false);
+            commitJob = null;
+        }
+        // make sure all pending states are stored
+        commit();
         if (db != null) {
             db.close();
         }
+        meters.forEach(Metrics.globalRegistry::remove);
+        meters.clear();
+    }
+
+    private void registerMeters() {
+        meters.add(Gauge.builder("openhab.persistence.pending", this, MapDbPersistenceService::getPendingCount)
+                .description("Number of states waiting to be committed").tag("service", SERVICE_ID)
+                .register(Metrics.globalRegistry));
+        meters.add(FunctionCounter.builder("openhab.persistence.commits", commitCount, AtomicLong::get)
+                .description("Number of commits to the database").tag("service", SERVICE_ID)
+                .register(Metrics.globalRegistry));
+        meters.add(FunctionCounter.builder("openhab.persistence.committed", committedEntries, AtomicLong::get)
+                .description("Number of entries written by all commits").tag("service", SERVICE_ID)
+                .register(Metrics.globalRegistry));
     }
 
     @Override
@@ -162,7 +254,9 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Set<PersistenceItemInfo> getItemInfo() {
-        return map.values().stream().map(this::deserialize).flatMap(MapDbPersistenceService::streamOptional)
+        return Stream.concat(pendingItems.values().stream(), map.entrySet().stream()
+                .filter(entry -> !pendingItems.containsKey(entry.getKey()))
+                .map(entry -> deserialize(entry.getValue())).flatMap(MapDbPersistenceService::streamOptional))
                 .collect(Collectors.<PersistenceItemInfo> toUnmodifiableSet());
     }
 
@@ -186,17 +280,97 @@ public class MapDbPersistenceService implements QueryablePersistenceService {
         mItem.setName(localAlias);
         mItem.setState(state);
         mItem.setTimestamp(new Date());
-        threadPool.submit(() -> {
+        pendingItems.put(localAlias, mItem);
+        storeCount.incrementAndGet();
+        if ((commitInterval == 0 || pendingItems.size() >= commitSize) && commitScheduled.compareAndSet(false, true)) {
+            threadPool.submit(this::commit);
+        }
+    }
+
+    /**
+     * Writes all pending states to the database and commits them.
+     */
+    private synchronized void commit() {
+        commitScheduled.set(false);
+        if (pendingItems.isEmpty() || db == null || db.isClosed()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int count = 0;
+        for (Map.Entry<String, MapDbItem> entry : pendingItems.entrySet()) {
+            String alias = entry.getKey();
+            MapDbItem mItem = entry.getValue();
             String json = serialize(mItem);
-            map.put(localAlias, json);
-            db.commit();
-            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", localAlias, state, json);
-        });
+            map.put(alias, json);
+            // only remove it if no newer state has been stored meanwhile
+            pendingItems.remove(alias, mItem);
+            count++;
+            logger.debug("Stored '{}' with state '{}' as '{}' in MapDB database", alias, mItem.getState(), json);
+        }
+        db.commit();
+        long duration = System.nanoTime() - start;
+        // the pending states are written to the database in one commit
+        storeTimer.record(duration, TimeUnit.NANOSECONDS);
+
+        long commits = commitCount.incrementAndGet();
+        long entries = committedEntries.addAndGet(count);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Committed {} entries to MapDB in {} ms ({} pending, {} stores, "
+                    + "{} commits with {} entries, {} commits/s)", count, TimeUnit.NANOSECONDS.toMillis(duration),
+                    pendingItems.size(), storeCount.get(), commits, entries,
+                    String.format(Locale.ROOT, "%.3f", getCommitsPerSecond()));
+        }
+    }
+
+    /**
+     * @return the number of states waiting to be committed
+     */
+    public int getPendingCount() {
+        return pendingItems.size();
+    }
+
+    /**
+     * @return the number of commits since activation
+     */
+    public long getCommitCount() {
+        return commitCount.get();
+    }
+
+    /**
+     * @return the number of entries written by all commits since activation
+     */
+    public long getCommittedEntries() {
+        return committedEntries.get();
+    }
+
+    /**
+     * @return the average number of commits per second since activation
+     */
+    public double getCommitsPerSecond() {
+        double uptime = Math.max(1, System.currentTimeMillis() - activationTime) / 1000.0;
+        return commitCount.get() / uptime;
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
-        String json = map.get(filter.getItemName());
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
+        String itemName = filter.getItemName();
+        if (itemName == null) {
+            return List.of();
+        }
+        MapDbItem pendingItem = pendingItems.get(itemName);
+        if (pendingItem != null) {
+            return List.of(pendingItem);
+        }
+        String json = map.get(itemName);
         if (json == null) {
             return List.of();
         }
@@ -17,15 +17,21 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.ThreadPoolManager;
+import org.openhab.core.config.core.ConfigParser;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.ItemNotFoundException;
 import org.openhab.core.items.ItemRegistry;
@@ -55,11 +61,20 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.result.DeleteResult;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the MongoDB {@link PersistenceService}.
  *
+ * If a batch size greater than 1 is configured, documents are not inserted one by one but collected per collection
+ * and written with <code>insertMany</code> once the batch size or the batch interval is reached. Pending documents are
+ * written before a query or removal, so they are always visible.
+ *
  * @author Thorsten Hoeger - Initial contribution
  * @author Stephan Brunner - Query fixes, Cleanup
  * @author René Ulbricht - Fixes type handling, driver update and cleanup
@@ -77,6 +92,23 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     private String collection = "";
     private boolean collectionPerItem;
 
+    private static final int QUERY_BATCH_SIZE = 1000;
+    private static final int MAX_PENDING_BATCHES = 10;
+
+    private int batchSize = 1;
+    private int batchInterval = 1000;
+    private boolean orderedWrites = true;
+    private final Map<String, List<Document>> pendingDocuments = new LinkedHashMap<>();
+    private int pendingCount = 0;
+    private @Nullable ScheduledFuture<?> flushJob;
+    private final Set<String> indexedCollections = ConcurrentHashMap.newKeySet();
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", "mongodb")
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", "mongodb")
+            .register(Metrics.globalRegistry);
+
     private boolean initialized = false;
 
     protected final ItemRegistry itemRegistry;
@@ -114,8 +146,22 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         collection = dbCollection == null ? "" : dbCollection;
         collectionPerItem = dbCollection == null || dbCollection.isBlank();
 
+        batchSize = Math.max(1, ConfigParser.valueAsOrElse(config.get("batchSize"), Integer.class, 1));
+        batchInterval = Math.max(1, ConfigParser.valueAsOrElse(config.get("batchInterval"), Integer.class, 1000));
+        orderedWrites = ConfigParser.valueAsOrElse(config.get("orderedWrites"), Boolean.class, true);
+        logger.debug("MongoDB batch size {}, batch interval {} ms, ordered writes {}", batchSize, batchInterval,
+                orderedWrites);
+
         if (!tryConnectToDatabase()) {
             logger.warn("Failed to connect to MongoDB server. Trying to reconnect later.");
+        } else if (!collectionPerItem) {
+            // create the index right away, for per-item collections it is created on first access
+            connectToCollection(collection);
+        }
+
+        if (batchSize > 1) {
+            flushJob = ThreadPoolManager.getScheduledPool("org.openhab.mongodb").scheduleWithFixedDelay(
+                    this::flushPendingDocuments, batchInterval, batchInterval, TimeUnit.MILLISECONDS);
         }
 
         initialized = true;
@@ -124,6 +170,12 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
     @Deactivate
     public void deactivate(final int reason) {
         logger.debug("MongoDB persistence bundle stopping. Disconnecting from database.");
+        ScheduledFuture<?> localFlushJob = flushJob;
+        if (localFlushJob != null) {
+            localFlushJob.cancel(false);
+            flushJob = null;
+        }
+        flushPendingDocuments();
         disconnectFromDatabase();
     }
 
@@ -223,9 +275,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
             MongoCollection<Document> mongoCollection = db.getDatabase(this.db).getCollection(collectionName);
 
-            Document idx = new Document();
-            idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
-            mongoCollection.createIndex(idx);
+            // creating an existing index is a no-op, but still a round trip to the server, so only do it once
+            if (indexedCollections.add(collectionName)) {
+                Document idx = new Document();
+                idx.append(MongoDBFields.FIELD_ITEM, 1).append(MongoDBFields.FIELD_TIMESTAMP, 1);
+                try {
+                    mongoCollection.createIndex(idx);
+                } catch (RuntimeException e) {
+                    indexedCollections.remove(collectionName);
+                    throw e;
+                }
+            }
 
             return mongoCollection;
         } catch (Exception e) {
@@ -244,10 +304,21 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         }
 
         cl = null;
+        indexedCollections.clear();
     }
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
+        flushPendingDocuments();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
@@ -279,8 +350,14 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
         Integer sortDir = (filter.getOrdering() == Ordering.ASCENDING) ? 1 : -1;
         MongoCursor<Document> cursor = null;
         try {
-            cursor = collection.find(query).sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
-                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize()).iterator();
+            // only fetch the fields needed to restore the state
+            cursor = collection.find(query)
+                    .projection(Projections.fields(Projections.include(MongoDBFields.FIELD_REALNAME,
+                            MongoDBFields.FIELD_TIMESTAMP, MongoDBFields.FIELD_VALUE, MongoDBFields.FIELD_UNIT),
+                            Projections.excludeId()))
+                    .sort(new Document(MongoDBFields.FIELD_TIMESTAMP, sortDir))
+                    .skip(filter.getPageNumber() * filter.getPageSize()).limit(filter.getPageSize())
+                    .batchSize(Math.min(filter.getPageSize(), QUERY_BATCH_SIZE)).iterator();
 
             while (cursor.hasNext()) {
                 Document obj = cursor.next();
@@ -346,6 +423,17 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
+        String realItemName = item.getName();
+        String collectionName = collectionPerItem ? realItemName : this.collection;
+        String name = (alias != null) ? alias : realItemName;
+        Document obj = createDocument(item, date, state, name);
+
+        if (batchSize > 1) {
+            addPendingDocument(collectionName, obj);
+            logger.debug("MongoDB queued {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+            return;
+        }
+
         // Connect to mongodb server if we're not already connected
         // If we can't connect, log.
         if (!tryConnectToDatabase()) {
@@ -355,9 +443,6 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String realItemName = item.getName();
-        String collectionName = collectionPerItem ? realItemName : this.collection;
-
         @Nullable
         MongoCollection<Document> collection = connectToCollection(collectionName);
 
@@ -366,25 +451,114 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
             return;
         }
 
-        String name = (alias != null) ? alias : realItemName;
-        Object value = MongoDBTypeConversions.convertValue(state);
+        long start = System.nanoTime();
+        try {
+            collection.insertOne(obj);
+        } catch (org.bson.BsonMaximumSizeExceededException e) {
+            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
+            throw e;
+        } finally {
+            storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        logger.debug("MongoDB save {}={}", name, obj.get(MongoDBFields.FIELD_VALUE));
+    }
 
+    private Document createDocument(Item item, Date date, State state, String name) {
         Document obj = new Document();
         obj.put(MongoDBFields.FIELD_ID, new ObjectId());
         obj.put(MongoDBFields.FIELD_ITEM, name);
-        obj.put(MongoDBFields.FIELD_REALNAME, realItemName);
+        obj.put(MongoDBFields.FIELD_REALNAME, item.getName());
         obj.put(MongoDBFields.FIELD_TIMESTAMP, date);
-        obj.put(MongoDBFields.FIELD_VALUE, value);
+        obj.put(MongoDBFields.FIELD_VALUE, MongoDBTypeConversions.convertValue(state));
         if (item instanceof NumberItem && state instanceof QuantityType<?>) {
             obj.put(MongoDBFields.FIELD_UNIT, ((QuantityType<?>) state).getUnit().toString());
         }
-        try {
-            collection.insertOne(obj);
-        } catch (org.bson.BsonMaximumSizeExceededException e) {
-            logger.error("Document size exceeds maximum size of 16MB. Item {} not persisted.", name);
-            throw e;
+        return obj;
+    }
+
+    private void addPendingDocument(String collectionName, Document obj) {
+        boolean flush;
+        synchronized (pendingDocuments) {
+            if (pendingCount >= batchSize * MAX_PENDING_BATCHES) {
+                logger.warn("Too many documents waiting to be written to MongoDB. Item {} not persisted.",
+                        obj.get(MongoDBFields.FIELD_ITEM));
+                return;
+            }
+            pendingDocuments.computeIfAbsent(collectionName, k -> new ArrayList<>()).add(obj);
+            pendingCount++;
+            flush = pendingCount >= batchSize;
+        }
+        if (flush) {
+            ThreadPoolManager.getScheduledPool("org.openhab.mongodb").execute(this::flushPendingDocuments);
+        }
+    }
+
+    /**
+     * Writes all pending documents with one <code>insertMany</code> per collection. If the database is not available,
+     * the documents are kept and written with the next flush.
+     */
+    private synchronized void flushPendingDocuments() {
+        Map<String, List<Document>> documents;
+        synchronized (pendingDocuments) {
+            if (pendingDocuments.isEmpty()) {
+                return;
+            }
+            documents = new LinkedHashMap<>(pendingDocuments);
+            pendingDocuments.clear();
+            pendingCount = 0;
+        }
+
+        if (!tryConnectToDatabase()) {
+            logger.warn("mongodb: No connection to database. Keeping {} documents for the next attempt.",
+                    documents.values().stream().mapToInt(List::size).sum());
+            requeue(documents);
+            return;
+        }
+
+        for (Map.Entry<String, List<Document>> entry : documents.entrySet()) {
+            String collectionName = entry.getKey();
+            List<Document> docs = entry.getValue();
+            MongoCollection<Document> collection = connectToCollection(collectionName);
+            if (collection == null) {
+                requeue(Map.of(collectionName, docs));
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                collection.insertMany(docs, new InsertManyOptions().ordered(orderedWrites));
+                logger.debug("MongoDB saved {} documents to collection {}", docs.size(), collectionName);
+            } catch (com.mongodb.MongoBulkWriteException e) {
+                // some documents were rejected by the server, retrying them would fail again
+                logger.error("Failed to write {} of {} documents to collection {}: {}", e.getWriteErrors().size(),
+                        docs.size(), collectionName, e.getMessage());
+            } catch (org.bson.BsonMaximumSizeExceededException e) {
+                logger.error("Document size exceeds maximum size of 16MB. {} documents not persisted.", docs.size());
+            } catch (RuntimeException e) {
+                logger.warn("Failed to write {} documents to collection {}, retrying later: {}", docs.size(),
+                        collectionName, e.getMessage());
+                requeue(Map.of(collectionName, docs));
+            } finally {
+                storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void requeue(Map<String, List<Document>> documents) {
+        synchronized (pendingDocuments) {
+            for (Map.Entry<String, List<Document>> entry : documents.entrySet()) {
+                List<Document> docs = entry.getValue();
+                int space = batchSize * MAX_PENDING_BATCHES - pendingCount;
+                if (space < docs.size()) {
+                    logger.warn("Too many documents waiting to be written to MongoDB. Dropping {} documents.",
+                            docs.size() - Math.max(0, space));
+                    docs = docs.subList(0, Math.max(0, space));
+                }
+                // keep the order in which the documents were stored
+                List<Document> pending = pendingDocuments.computeIfAbsent(entry.getKey(), k -> new ArrayList<>());
+                pending.addAll(0, docs);
+                pendingCount += docs.size();
+            }
         }
-        logger.debug("MongoDB save {}={}", name, value);
     }
 
     @Nullable
@@ -467,6 +641,7 @@ public class MongoDBPersistenceService implements ModifiablePersistenceService {
 
     @Override
     public boolean remove(FilterCriteria filter) {
+        flushPendingDocuments();
         MongoCollection<Document> collection = prepareCollection(filter);
         // If collection creation failed, return nothing.
         if (collection == null) {
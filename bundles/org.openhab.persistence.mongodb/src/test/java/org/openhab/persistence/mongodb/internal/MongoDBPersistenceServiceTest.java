@@ -989,4 +989,52 @@ public class MongoDBPersistenceServiceTest {
             dbContainer.stop();
         }
     }
+
+    /**
+     * Tests the store method of MongoDBPersistenceService with a batch size greater than 1.
+     *
+     * This test checks if stored values are kept until the batch is written, and if a query writes the pending values
+     * before reading.
+     */
+    @Test
+    public void testStoreBatched() {
+        // Preparation
+        DatabaseTestContainer dbContainer = new DatabaseTestContainer(new MemoryBackend());
+        try {
+            SetupResult setupResult = DataCreationHelper.setupMongoDB("testCollection", dbContainer);
+            MongoDBPersistenceService service = setupResult.service;
+            MongoDatabase database = setupResult.database;
+
+            NumberItem itemReg = DataCreationHelper.createNumberItem("TestItem", 0);
+            try {
+                Mockito.when(setupResult.itemRegistry.getItem("TestItem")).thenReturn(itemReg);
+            } catch (ItemNotFoundException e) {
+            }
+
+            setupResult.config.put("batchSize", "100");
+            setupResult.config.put("batchInterval", "60000");
+            setupResult.config.put("orderedWrites", "false");
+            service.activate(setupResult.bundleContext, setupResult.config);
+
+            // Execution
+            for (int i = 0; i < 5; i++) {
+                service.store(DataCreationHelper.createNumberItem("TestItem", i), null);
+            }
+
+            // Verification
+            MongoCollection<Document> collection = database.getCollection("testCollection");
+            assertEquals(0, collection.countDocuments()); // Assert that nothing was written yet
+
+            Iterable<HistoricItem> result = service.query(DataCreationHelper.createFilterCriteria("TestItem"));
+            List<HistoricItem> resultList = new ArrayList<>();
+            result.forEach(resultList::add);
+
+            assertEquals(5, resultList.size());
+            assertEquals(5, collection.countDocuments());
+
+            service.deactivate(1);
+        } finally {
+            dbContainer.stop();
+        }
+    }
 }
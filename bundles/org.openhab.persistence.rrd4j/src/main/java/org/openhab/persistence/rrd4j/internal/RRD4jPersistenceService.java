@@ -22,6 +22,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -34,6 +35,8 @@ import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.DoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -90,6 +93,9 @@ import org.rrd4j.core.Sample;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This is the implementation of the RRD4j {@link PersistenceService}. To learn
  * more about RRD4j please visit their
@@ -136,9 +142,29 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private static final RrdDbPool DATABASE_POOL = new RrdDbPool();
 
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Locks guarding the write access to the database files. The lock for a database is picked by the hash of its
+     * name, so writes to different files (and queries) do not block each other.
+     */
+    private final Lock[] databaseLocks = new Lock[LOCK_STRIPES];
+
+    /**
+     * The step (in seconds) of each database which has been written to. Pending values are kept until the step they
+     * belong to is complete, so that all values of one step are written with a single database access.
+     */
+    private final Map<String, Long> databaseSteps = new ConcurrentHashMap<>();
+
     private final Logger logger = LoggerFactory.getLogger(RRD4jPersistenceService.class);
     private final ItemRegistry itemRegistry;
     private boolean active = false;
+    private final Timer storeTimer = Timer.builder("openhab.persistence.store")
+            .description("Time to store a value in a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
+    private final Timer queryTimer = Timer.builder("openhab.persistence.query")
+            .description("Time to query a persistence service").tag("service", SERVICE_ID)
+            .register(Metrics.globalRegistry);
 
     public static Path getDatabasePath(String name) {
         return DB_FOLDER.resolve(name + ".rrd");
@@ -153,6 +179,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
     @Activate
     public RRD4jPersistenceService(final @Reference ItemRegistry itemRegistry, Map<String, Object> config) {
         this.itemRegistry = itemRegistry;
+        for (int i = 0; i < databaseLocks.length; i++) {
+            databaseLocks[i] = new ReentrantLock();
+        }
         storeJob = scheduler.scheduleWithFixedDelay(() -> doStore(false), 1, 1, TimeUnit.SECONDS);
         modified(config);
         active = true;
@@ -340,30 +369,95 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     private void doStore(boolean force) {
         long now = System.currentTimeMillis() / 1000;
-        while (!storageMap.isEmpty()) {
-            Key key = storageMap.firstKey();
-            if (now > key.timestamp || force) {
-                // no new elements can be added for this timestamp because we are already past that time or the service
-                // requires forced storing
-                Double value = storageMap.pollFirstEntry().getValue();
-                writePointToDatabase(key.name, value, key.timestamp);
-            } else {
-                return;
+        // values of the current second are not stored yet because new values for that timestamp may still arrive
+        Map<Key, Double> candidates = force ? storageMap : storageMap.headMap(new Key(now, ""));
+        Map<String, List<Key>> dueKeys = new LinkedHashMap<>();
+        for (Key key : candidates.keySet()) {
+            if (force || isStepComplete(key, now)) {
+                dueKeys.computeIfAbsent(key.name, name -> new ArrayList<>()).add(key);
             }
         }
+        dueKeys.forEach(this::writePointsToDatabase);
     }
 
-    private synchronized void writePointToDatabase(String name, double value, long timestamp) {
-        RrdDb db = null;
-        try {
-            db = getDB(name, true);
-        } catch (Exception e) {
-            logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+    /**
+     * Stores all pending values of a single database, e.g. before the database is queried.
+     *
+     * @param name the name of the database
+     */
+    private void storePending(String name) {
+        long now = System.currentTimeMillis() / 1000;
+        List<Key> keys = new ArrayList<>();
+        for (Key key : storageMap.headMap(new Key(now, "")).keySet()) {
+            if (name.equals(key.name)) {
+                keys.add(key);
+            }
         }
-        if (db == null) {
-            return;
+        if (!keys.isEmpty()) {
+            writePointsToDatabase(name, keys);
         }
+    }
+
+    private boolean isStepComplete(Key key, long now) {
+        long step = databaseSteps.getOrDefault(key.name, 1L);
+        return now >= key.timestamp - key.timestamp % step + step;
+    }
 
+    private Lock getDatabaseLock(String name) {
+        return databaseLocks[Math.floorMod(name.hashCode(), databaseLocks.length)];
+    }
+
+    /**
+     * Writes the given pending values to the database. The database is opened only once for all values. Values which
+     * have already been written by a concurrent call are skipped.
+     *
+     * @param name the name of the database
+     * @param keys the keys of the pending values, in ascending order of their timestamps
+     */
+    private void writePointsToDatabase(String name, List<Key> keys) {
+        long start = System.nanoTime();
+        Lock lock = getDatabaseLock(name);
+        lock.lock();
+        try {
+            RrdDb db = null;
+            try {
+                db = getDB(name, true);
+            } catch (Exception e) {
+                logger.warn("Failed to open rrd4j database '{}' to store data ({})", name, e.toString());
+            }
+            if (db == null) {
+                // the values can't be stored, discard them
+                keys.forEach(storageMap::remove);
+                return;
+            }
+
+            try {
+                if (!databaseSteps.containsKey(name)) {
+                    databaseSteps.put(name, db.getRrdDef().getStep());
+                }
+            } catch (IOException e) {
+                logger.debug("Could not determine step of rrd4j database '{}': {}", name, e.getMessage());
+            }
+
+            for (Key key : keys) {
+                Double value = storageMap.remove(key);
+                if (value != null) {
+                    writePointToDatabase(db, name, value, key.timestamp);
+                }
+            }
+
+            try {
+                db.close();
+            } catch (IOException e) {
+                logger.debug("Error closing rrd4j database: {}", e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+            storeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void writePointToDatabase(RrdDb db, String name, double value, long timestamp) {
         ConsolFun function = getConsolidationFunction(db);
         if (function != ConsolFun.AVERAGE) {
             try {
@@ -400,11 +494,6 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         } catch (Exception e) {
             logger.warn("Could not persist '{}' to rrd4j database: {}", name, e.getMessage());
         }
-        try {
-            db.close();
-        } catch (IOException e) {
-            logger.debug("Error closing rrd4j database: {}", e.getMessage());
-        }
     }
 
     @Override
@@ -414,6 +503,15 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
 
     @Override
     public Iterable<HistoricItem> query(FilterCriteria filter) {
+        long start = System.nanoTime();
+        try {
+            return internalQuery(filter);
+        } finally {
+            queryTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Iterable<HistoricItem> internalQuery(FilterCriteria filter) {
         ZonedDateTime filterBeginDate = filter.getBeginDate();
         ZonedDateTime filterEndDate = filter.getEndDate();
         if (filterBeginDate != null && filterEndDate != null && filterBeginDate.isAfter(filterEndDate)) {
@@ -427,6 +525,9 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         }
         logger.trace("Querying rrd4j database for item '{}'", itemName);
 
+        // make sure values which are still waiting for their step to complete are included
+        storePending(itemName);
+
         RrdDb db = null;
         try {
             db = getDB(itemName, false);
@@ -544,7 +645,7 @@ public class RRD4jPersistenceService implements QueryablePersistenceService {
         return Set.of();
     }
 
-    protected synchronized @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
+    protected @Nullable RrdDb getDB(String alias, boolean createFileIfAbsent) {
         RrdDb db = null;
         Path path = getDatabasePath(alias);
         try {
@@ -12,6 +12,8 @@
  */
 package org.openhab.transform.bin2json.internal;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.core.transform.TransformationException;
@@ -20,6 +22,9 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * The implementation of {@link TransformationService} which transforms the
  * hexa string formatted binary data by Binary Block Parser syntax to JSON format.
@@ -31,6 +36,8 @@ import org.slf4j.LoggerFactory;
 public class Bin2JsonTransformationService implements TransformationService {
 
     private Logger logger = LoggerFactory.getLogger(Bin2JsonTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "BIN2JSON").register(Metrics.globalRegistry);
 
     /**
      * Transforms the input <code>source</code> by Java Binary Block Parser syntax.
@@ -40,6 +47,15 @@ public class Bin2JsonTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String syntax, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(syntax, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String syntax, String source) throws TransformationException {
         final long startTime = System.currentTimeMillis();
         logger.debug("About to transform '{}' by the Bin2Json syntax '{}'", source, syntax);
 
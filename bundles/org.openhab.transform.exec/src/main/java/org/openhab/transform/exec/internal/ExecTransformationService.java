@@ -13,6 +13,7 @@
 package org.openhab.transform.exec.internal;
 
 import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -26,6 +27,9 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * The implementation of {@link TransformationService} which transforms the
  * input by command line.
@@ -38,6 +42,8 @@ import org.slf4j.LoggerFactory;
 public class ExecTransformationService implements TransformationService {
     private static final Pattern SPLIT_ON_SPACE = Pattern.compile("(['])((?:\\\\\\1|.)+?)\\1|([^\\s']+)");
     private final Logger logger = LoggerFactory.getLogger(ExecTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "EXEC").register(Metrics.globalRegistry);
     private final ExecTransformationWhitelistWatchService execTransformationWhitelistWatchService;
 
     @Activate
@@ -55,6 +61,15 @@ public class ExecTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String commandLine, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(commandLine, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String commandLine, String source) throws TransformationException {
         if (commandLine == null || source == null) {
             throw new TransformationException("the given parameters 'commandLine' and 'source' must not be null");
         }
@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -33,6 +34,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hubspot.jinjava.Jinjava;
 import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Jinja2 Expressions.
@@ -45,6 +49,8 @@ import com.hubspot.jinjava.interpret.FatalTemplateErrorsException;
 public class JinjaTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(JinjaTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "JINJA").register(Metrics.globalRegistry);
 
     private final Jinjava jinjava = new Jinjava();
 
@@ -57,6 +63,15 @@ public class JinjaTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String template, String value) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(template, value);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String template, String value) throws TransformationException {
         String transformationResult;
         Map<String, @Nullable Object> bindings = new HashMap<>();
 
@@ -12,7 +12,10 @@
  */
 package org.openhab.transform.jsonpath.internal;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -24,13 +27,19 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidJsonException;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * The implementation of a {@link TransformationService} which transforms the input by JSonPath Expressions.
+ * Compiled expressions are kept in a bounded cache. Parsed documents are kept for a short time, so that a source
+ * which is transformed by several expressions (e.g. for several channels) is parsed only once.
  *
  * @author Gaël L'hopital - Initial contribution
  * @author Sebastian Janzen - Initial contribution
@@ -39,7 +48,36 @@ import com.jayway.jsonpath.PathNotFoundException;
 @Component(property = { "openhab.transform=JSONPATH" })
 public class JSonPathTransformationService implements TransformationService {
 
+    private static final int MAX_CACHED_PATHS = 500;
+    private static final int MAX_CACHED_DOCUMENTS = 16;
+    private static final long DOCUMENT_EXPIRY_NANOS = 2_000_000_000L;
+
     private final Logger logger = LoggerFactory.getLogger(JSonPathTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "JSONPATH").register(Metrics.globalRegistry);
+
+    private final Configuration configuration = Configuration.defaultConfiguration();
+    private final Map<String, JsonPath> pathCache = new LruMap<>(MAX_CACHED_PATHS);
+    private final Map<String, CachedDocument> documentCache = new LruMap<>(MAX_CACHED_DOCUMENTS);
+
+    private record CachedDocument(Object document, long expiresAt) {
+    }
+
+    private static class LruMap<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxEntries;
+
+        LruMap(int maxEntries) {
+            super(16, 0.75f, true);
+            this.maxEntries = maxEntries;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxEntries;
+        }
+    }
 
     /**
      * Transforms the input <code>source</code> by JSonPath expression.
@@ -51,6 +89,16 @@ public class JSonPathTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String jsonPathExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(jsonPathExpression, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String jsonPathExpression, String source)
+            throws TransformationException {
         if (jsonPathExpression == null || source == null) {
             throw new TransformationException("the given parameters 'JSonPath' and 'source' must not be null");
         }
@@ -62,7 +110,7 @@ public class JSonPathTransformationService implements TransformationService {
             return null;
         }
         try {
-            Object transformationResult = JsonPath.read(source, jsonPathExpression);
+            Object transformationResult = getPath(jsonPathExpression).read(getDocument(source), configuration);
             logger.debug("transformation resulted in '{}'", transformationResult);
             if (transformationResult == null) {
                 return null;
@@ -78,6 +126,33 @@ public class JSonPathTransformationService implements TransformationService {
         }
     }
 
+    private JsonPath getPath(String jsonPathExpression) {
+        synchronized (pathCache) {
+            JsonPath path = pathCache.get(jsonPathExpression);
+            if (path == null) {
+                path = JsonPath.compile(jsonPathExpression);
+                pathCache.put(jsonPathExpression, path);
+            }
+            return path;
+        }
+    }
+
+    private Object getDocument(String source) {
+        long now = System.nanoTime();
+        synchronized (documentCache) {
+            CachedDocument cached = documentCache.get(source);
+            if (cached != null && cached.expiresAt - now > 0) {
+                return cached.document;
+            }
+        }
+        // parse outside the lock, parsing large documents takes a while
+        Object document = configuration.jsonProvider().parse(source);
+        synchronized (documentCache) {
+            documentCache.put(source, new CachedDocument(document, now + DOCUMENT_EXPIRY_NANOS));
+        }
+        return document;
+    }
+
     private String flattenList(List<?> list) {
         if (list.size() == 1) {
             return list.get(0).toString();
@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -39,6 +40,9 @@ import org.osgi.service.component.annotations.Reference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * <p>
  * The implementation of {@link TransformationService} which simply maps strings to other strings
@@ -58,6 +62,8 @@ public class MapTransformationService
     private static final Set<String> SUPPORTED_CONFIGURATION_TYPES = Set.of("map");
 
     private final Logger logger = LoggerFactory.getLogger(MapTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "MAP").register(Metrics.globalRegistry);
     private final TransformationRegistry transformationRegistry;
     private final Map<String, Properties> cachedTransformations = new ConcurrentHashMap<>();
 
@@ -74,6 +80,15 @@ public class MapTransformationService
 
     @Override
     public @Nullable String transform(String function, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(function, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String function, String source) throws TransformationException {
         // always get a configuration from the registry to account for changed system locale
         Transformation transformation = transformationRegistry.get(function, null);
 
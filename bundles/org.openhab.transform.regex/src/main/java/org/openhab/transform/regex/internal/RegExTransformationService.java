@@ -12,6 +12,9 @@
  */
 package org.openhab.transform.regex.internal;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -23,6 +26,9 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by Regular Expressions.
@@ -30,6 +36,9 @@ import org.slf4j.LoggerFactory;
  * <p>
  * <b>Note:</b> the given Regular Expression must contain exactly one group!
  *
+ * <p>
+ * Compiled expressions are cached, so each expression is compiled only once.
+ *
  * @author Thomas.Eichstaedt-Engelen - Initial contribution
  */
 @NonNullByDefault
@@ -37,11 +46,33 @@ import org.slf4j.LoggerFactory;
 public class RegExTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(RegExTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "REGEX").register(Metrics.globalRegistry);
 
     private static final Pattern SUBSTR_PATTERN = Pattern.compile("^s/(.*?[^\\\\])/(.*?[^\\\\])/(.*)$");
 
+    private static final int MAX_CACHED_EXPRESSIONS = 1000;
+
+    private final Map<String, RegexPlan> planCache = new ConcurrentHashMap<>();
+
+    /**
+     * A compiled expression. If <code>substitution</code> is not null, the expression is of the form
+     * <code>s/regex/substitution/options</code>, otherwise <code>pattern</code> extracts the first group.
+     */
+    private record RegexPlan(Pattern pattern, @Nullable String substitution, boolean global) {
+    }
+
     @Override
     public @Nullable String transform(String regExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(regExpression, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String regExpression, String source) throws TransformationException {
         if (regExpression == null || source == null) {
             throw new TransformationException("the given parameters 'regex' and 'source' must not be null");
         }
@@ -50,23 +81,19 @@ public class RegExTransformationService implements TransformationService {
 
         String result = "";
 
-        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
-        if (substMatcher.matches()) {
+        RegexPlan plan = getPlan(regExpression);
+        String substitution = plan.substitution;
+        if (substitution != null) {
             logger.debug("Using substitution form of regex transformation");
-            String regex = substMatcher.group(1);
-            String substitution = substMatcher.group(2);
-            String options = substMatcher.group(3);
-            if ("g".equals(options)) {
-                result = source.trim().replaceAll(regex, substitution);
+            Matcher substMatcher = plan.pattern.matcher(source.trim());
+            if (plan.global) {
+                return substMatcher.replaceAll(substitution);
             } else {
-                result = source.trim().replaceFirst(regex, substitution);
-            }
-            if (result != null) {
-                return result;
+                return substMatcher.replaceFirst(substitution);
             }
         }
 
-        Matcher matcher = Pattern.compile("^" + regExpression + "$", Pattern.DOTALL).matcher(source.trim());
+        Matcher matcher = plan.pattern.matcher(source.trim());
         if (!matcher.matches()) {
             logger.debug(
                     "the given regex '^{}$' doesn't match the given content '{}' -> couldn't compute transformation",
@@ -94,4 +121,28 @@ public class RegExTransformationService implements TransformationService {
 
         return result;
     }
+
+    private RegexPlan getPlan(String regExpression) {
+        RegexPlan plan = planCache.get(regExpression);
+        if (plan == null) {
+            plan = compile(regExpression);
+            if (planCache.size() >= MAX_CACHED_EXPRESSIONS) {
+                // expressions are usually static configuration, so this only happens for generated expressions
+                planCache.clear();
+            }
+            planCache.put(regExpression, plan);
+        }
+        return plan;
+    }
+
+    private RegexPlan compile(String regExpression) {
+        Matcher substMatcher = SUBSTR_PATTERN.matcher(regExpression);
+        if (substMatcher.matches()) {
+            String regex = substMatcher.group(1);
+            String substitution = substMatcher.group(2);
+            String options = substMatcher.group(3);
+            return new RegexPlan(Pattern.compile(regex), substitution, "g".equals(options));
+        }
+        return new RegexPlan(Pattern.compile("^" + regExpression + "$", Pattern.DOTALL), null, false);
+    }
 }
@@ -75,4 +75,13 @@ public class RegExTransformationServiceTest extends AbstractTransformationServic
         // Asserts
         assertEquals("varX=12 varY=54 ", transformedResponse);
     }
+
+    @Test
+    public void testTransformByRegex_reusedExpression() throws TransformationException {
+        assertEquals("12", processor.transform("TEMP:(\\d+)", "TEMP:12"));
+        assertEquals("13", processor.transform("TEMP:(\\d+)", "TEMP:13"));
+        assertNull(processor.transform("TEMP:(\\d+)", "HUM:40"));
+        assertEquals("A-B", processor.transform("s/,/-/g", "A,B"));
+        assertEquals("C-D", processor.transform("s/,/-/g", "C,D"));
+    }
 }
@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2010-2024 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.transform.scale.internal;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Compiled form of a scale file.
+ *
+ * All range limits are collected into a sorted array of boundaries. The boundaries split the number line into
+ * elementary segments (the open intervals between two boundaries and the boundaries themselves), and for each segment
+ * the label of the first range of the scale file containing it is computed in advance. A lookup is then a binary search
+ * over the boundaries.
+ *
+ * If all boundaries have at most 15 significant digits, plain decimal inputs with at most 15 characters are looked up
+ * as primitive doubles without creating a {@link BigDecimal}. Both sides then convert to distinct doubles in the same
+ * order, so the result is the same as with {@link BigDecimal} comparison.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScaleTable {
+
+    private static final int MAX_DOUBLE_DIGITS = 15;
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+
+    private final BigDecimal[] boundaries;
+    private final double @Nullable [] doubleBoundaries;
+    private final @Nullable String[] labels;
+    private final String format;
+    private final @Nullable String nonNumeric;
+
+    /**
+     * Compiles the ranges of a scale file.
+     *
+     * @param ranges the ranges and their labels in the order of the scale file
+     * @param format the format of the result
+     * @param nonNumeric the label for non-numeric inputs, <code>null</code> if none is defined
+     */
+    public ScaleTable(List<Map.Entry<Range, String>> ranges, String format, @Nullable String nonNumeric) {
+        this.format = format;
+        this.nonNumeric = nonNumeric;
+
+        TreeSet<BigDecimal> limits = new TreeSet<>();
+        for (Map.Entry<Range, String> entry : ranges) {
+            Range range = entry.getKey();
+            if (range.min != null) {
+                limits.add(range.min);
+            }
+            if (range.max != null) {
+                limits.add(range.max);
+            }
+        }
+        boundaries = limits.toArray(new BigDecimal[0]);
+
+        // segment 2 * i + 1 is the boundary i, segment 2 * i is the open interval below boundary i
+        labels = new String[2 * boundaries.length + 1];
+        for (int segment = 0; segment < labels.length; segment++) {
+            BigDecimal point = representative(segment);
+            for (Map.Entry<Range, String> entry : ranges) {
+                if (entry.getKey().contains(point)) {
+                    labels[segment] = entry.getValue();
+                    break;
+                }
+            }
+        }
+
+        double[] doubles = new double[boundaries.length];
+        boolean exact = true;
+        for (int i = 0; i < boundaries.length; i++) {
+            BigDecimal boundary = boundaries[i];
+            double value = boundary.doubleValue();
+            if (boundary.precision() > MAX_DOUBLE_DIGITS || !Double.isFinite(value)
+                    || (value != 0.0 && Math.abs(value) < Double.MIN_NORMAL)) {
+                exact = false;
+                break;
+            }
+            doubles[i] = value;
+        }
+        doubleBoundaries = exact ? doubles : null;
+    }
+
+    private BigDecimal representative(int segment) {
+        if (boundaries.length == 0) {
+            return BigDecimal.ZERO;
+        }
+        int index = segment / 2;
+        if (segment % 2 == 1) {
+            return boundaries[index];
+        } else if (index == 0) {
+            return boundaries[0].subtract(BigDecimal.ONE);
+        } else if (index == boundaries.length) {
+            return boundaries[index - 1].add(BigDecimal.ONE);
+        } else {
+            return boundaries[index - 1].add(boundaries[index]).divide(TWO);
+        }
+    }
+
+    private static int segment(int searchResult) {
+        return searchResult >= 0 ? 2 * searchResult + 1 : -2 * (searchResult + 1);
+    }
+
+    /**
+     * Looks up the label for a numeric input.
+     *
+     * @param source the input
+     * @return the label of the first matching range, <code>null</code> if no range matches
+     * @throws NumberFormatException if the input is not a decimal number
+     */
+    public @Nullable String lookup(String source) {
+        double[] doubles = doubleBoundaries;
+        if (doubles != null && isPlainDecimal(source)) {
+            // adding 0.0 turns -0.0 into 0.0, which binarySearch would consider smaller
+            double value = Double.parseDouble(source) + 0.0;
+            return labels[segment(Arrays.binarySearch(doubles, value))];
+        }
+        return lookup(new BigDecimal(source));
+    }
+
+    /**
+     * Looks up the label for a numeric value.
+     *
+     * @param value the value
+     * @return the label of the first matching range, <code>null</code> if no range matches
+     */
+    public @Nullable String lookup(BigDecimal value) {
+        return labels[segment(Arrays.binarySearch(boundaries, value))];
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public @Nullable String getNonNumeric() {
+        return nonNumeric;
+    }
+
+    /**
+     * Checks if the input is a plain decimal number with at most 15 characters, i.e. an optional sign, digits and an
+     * optional decimal point. Such numbers are parsed the same by {@link BigDecimal} and {@link Double}.
+     */
+    private static boolean isPlainDecimal(String source) {
+        int length = source.length();
+        if (length == 0 || length > MAX_DOUBLE_DIGITS) {
+            return false;
+        }
+        int start = source.charAt(0) == '-' || source.charAt(0) == '+' ? 1 : 0;
+        boolean digits = false;
+        boolean point = false;
+        for (int i = start; i < length; i++) {
+            char c = source.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits = true;
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                return false;
+            }
+        }
+        return digits;
+    }
+}
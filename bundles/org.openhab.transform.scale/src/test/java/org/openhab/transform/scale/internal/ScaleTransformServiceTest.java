@@ -154,6 +154,21 @@ public class ScaleTransformServiceTest {
         assertEquals("first", transformedResponse);
     }
 
+    @Test
+    public void testTransformAtBoundaries() throws TransformationException {
+        String limits = "scale" + File.separator + "limits.scale";
+        assertEquals("low", processor.transform(limits, "9.999"));
+        assertEquals("middle", processor.transform(limits, "10"));
+        assertEquals("middle", processor.transform(limits, "10.00"));
+        assertEquals("high", processor.transform(limits, "20"));
+        assertEquals("extreme", processor.transform(limits, "300.0000000000000000001"));
+
+        String evaluationOrder = "scale" + File.separator + "evaluationorder.scale";
+        assertEquals("first", processor.transform(evaluationOrder, "14.9"));
+        assertEquals("second", processor.transform(evaluationOrder, "15"));
+        assertEquals("last", processor.transform(evaluationOrder, "17"));
+    }
+
     @Test
     public void testTransformQuantityType() throws TransformationException {
         QuantityType<Dimensionless> airQuality = new QuantityType<>("992 ppm");
@@ -15,6 +15,7 @@ package org.openhab.transform.vat.internal;
 import static org.openhab.transform.vat.internal.VATTransformationConstants.*;
 
 import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -26,6 +27,9 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * This {@link TransformationService} adds VAT to the input according to configured country.
  *
@@ -36,9 +40,20 @@ import org.slf4j.LoggerFactory;
 public class VATTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(VATTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "VAT").register(Metrics.globalRegistry);
 
     @Override
     public @Nullable String transform(String valueString, String sourceString) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(valueString, sourceString);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String valueString, String sourceString) throws TransformationException {
         QuantityType<?> source;
         try {
             source = new QuantityType<>(sourceString);
@@ -13,6 +13,7 @@
 package org.openhab.transform.xpath.internal;
 
 import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -31,6 +32,9 @@ import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.xml.sax.InputSource;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XPath Expressions.
@@ -42,9 +46,20 @@ import org.xml.sax.InputSource;
 public class XPathTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XPathTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "XPATH").register(Metrics.globalRegistry);
 
     @Override
     public @Nullable String transform(String xpathExpression, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(xpathExpression, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String xpathExpression, String source) throws TransformationException {
         if (xpathExpression == null || source == null) {
             throw new TransformationException("the given parameters 'xpath' and 'source' must not be null");
         }
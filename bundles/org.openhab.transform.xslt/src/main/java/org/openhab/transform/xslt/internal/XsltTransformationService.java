@@ -15,6 +15,7 @@ package org.openhab.transform.xslt.internal;
 import java.io.File;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.transform.Source;
 import javax.xml.transform.Transformer;
@@ -31,6 +32,9 @@ import org.osgi.service.component.annotations.Component;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 /**
  * <p>
  * The implementation of {@link TransformationService} which transforms the input by XSLT.
@@ -42,6 +46,8 @@ import org.slf4j.LoggerFactory;
 public class XsltTransformationService implements TransformationService {
 
     private final Logger logger = LoggerFactory.getLogger(XsltTransformationService.class);
+    private final Timer transformationTimer = Timer.builder("openhab.transformation.execution")
+            .description("Time to execute a transformation").tag("type", "XSLT").register(Metrics.globalRegistry);
 
     /**
      * Transforms the input <code>source</code> by XSLT.
@@ -56,6 +62,15 @@ public class XsltTransformationService implements TransformationService {
      */
     @Override
     public @Nullable String transform(String filename, String source) throws TransformationException {
+        long start = System.nanoTime();
+        try {
+            return internalTransform(filename, source);
+        } finally {
+            transformationTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private @Nullable String internalTransform(String filename, String source) throws TransformationException {
         if (filename == null || source == null) {
             throw new TransformationException("the given parameters 'filename' and 'source' must not be null");
         }
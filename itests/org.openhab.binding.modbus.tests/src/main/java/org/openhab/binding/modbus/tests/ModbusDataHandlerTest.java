@@ -593,6 +593,86 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         // no datetime, conversion not possible without transformation
     }
 
+    private List<State> getChannelStateUpdates(ModbusDataThingHandler handler, String channel) {
+        List<State> updates = getStateUpdates(getItemName(new ChannelUID(handler.getThing().getUID(), channel)));
+        return updates == null ? List.of() : updates;
+    }
+
+    /**
+     * Polls the same registers twice, with a read error in between. The poller reports the second poll as unchanged,
+     * so the previous channel states are reused instead of decoding the registers again.
+     */
+    @SuppressWarnings({ "null" })
+    private ModbusDataThingHandler testReadUnchangedDataGeneric(long updateUnchangedValuesEveryMillis) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+
+        // Minimally mocked request
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(3).when(request).getDataLength();
+        doReturn(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS).when(request).getFunctionCode();
+
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+
+        Bridge poller = createPollerMock("poller1", task);
+        ModbusPollerThingHandler pollerHandler = (ModbusPollerThingHandler) poller.getHandler();
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", "0");
+        dataConfig.put("readTransform", "default");
+        dataConfig.put("readValueType", ModbusConstants.ValueType.INT16.getConfigValue());
+        dataConfig.put("updateUnchangedValuesEveryMillis", updateUnchangedValuesEveryMillis);
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig));
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        ModbusRegisterArray registers = new ModbusRegisterArray(new byte[] { 0, 5 });
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        assertSingleStateUpdate(dataHandler, CHANNEL_LAST_READ_SUCCESS, is(notNullValue(State.class)));
+
+        dataHandler.handleReadError(new AsyncModbusFailure<>(request, new Exception("fooerror")));
+        waitForAssert(() -> assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.OFFLINE))));
+        assertThat(dataHandler.getThing().getStatusInfo().getStatusDetail(),
+                is(equalTo(ThingStatusDetail.COMMUNICATION_ERROR)));
+
+        doReturn(true).when(pollerHandler).isPolledDataUnchanged(anyInt(), anyInt());
+        dataHandler.onReadResult(new AsyncModbusReadResult(request, registers));
+        verify(pollerHandler).isPolledDataUnchanged(0, 1);
+
+        // data is unchanged, but the thing recovers from the read error
+        waitForAssert(() -> assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE))));
+        waitForAssert(() -> assertThat(getChannelStateUpdates(dataHandler, CHANNEL_LAST_READ_SUCCESS).size(),
+                is(equalTo(2))));
+        return dataHandler;
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataUpdatesChannels() {
+        ModbusDataThingHandler dataHandler = testReadUnchangedDataGeneric(0L);
+
+        // updateUnchangedValuesEveryMillis=0 updates the channels with every poll
+        waitForAssert(() -> {
+            assertThat(getChannelStateUpdates(dataHandler, CHANNEL_NUMBER),
+                    is(equalTo(List.of(new DecimalType(5), new DecimalType(5)))));
+            assertThat(getChannelStateUpdates(dataHandler, CHANNEL_STRING),
+                    is(equalTo(List.of(new StringType("5"), new StringType("5")))));
+        });
+        assertThat(getChannelStateUpdates(dataHandler, CHANNEL_LAST_READ_ERROR).size(), is(equalTo(1)));
+    }
+
+    @Test
+    public void testOnRegistersUnchangedDataSkipsRecentlyUpdatedChannels() {
+        ModbusDataThingHandler dataHandler = testReadUnchangedDataGeneric(60_000L);
+
+        // the values were updated less than updateUnchangedValuesEveryMillis ago, only last read success is refreshed
+        assertSingleStateUpdate(dataHandler, CHANNEL_NUMBER, new DecimalType(5));
+        assertSingleStateUpdate(dataHandler, CHANNEL_STRING, new StringType("5"));
+        List<State> lastReadSuccess = getChannelStateUpdates(dataHandler, CHANNEL_LAST_READ_SUCCESS);
+        assertThat(lastReadSuccess.get(1), is(not(equalTo(lastReadSuccess.get(0)))));
+    }
+
     @Test
     public void testOnRegistersRealTransformation() {
         mockTransformation("MULTIPLY", new MultiplyTransformation());
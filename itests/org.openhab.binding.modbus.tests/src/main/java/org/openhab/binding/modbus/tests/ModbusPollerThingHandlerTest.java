@@ -15,12 +15,15 @@ package org.openhab.binding.modbus.tests;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.hamcrest.Description;
@@ -458,6 +461,53 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
         verifyNoMoreInteractions(child2);
     }
 
+    @Test
+    public void testUnchangedRegistersReportedToChildDataThings()
+            throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+        PollTask pollTask = Mockito.mock(PollTask.class);
+        doReturn(pollTask).when(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), notNull(), notNull());
+
+        Configuration pollerConfig = new Configuration();
+        pollerConfig.put("refresh", 150L);
+        pollerConfig.put("start", 5);
+        pollerConfig.put("length", 3);
+        pollerConfig.put("type", ModbusBindingConstantsInternal.READ_TYPE_HOLDING_REGISTER);
+        poller = createPollerThingBuilder("poller").withConfiguration(pollerConfig).withBridge(endpoint.getUID())
+                .build();
+        addThing(poller);
+        verifyEndpointBasicInitInteraction();
+
+        assertThat(poller.getStatus(), is(equalTo(ThingStatus.ONLINE)));
+
+        ArgumentCaptor<ModbusReadCallback> callbackCapturer = ArgumentCaptor.forClass(ModbusReadCallback.class);
+        verify(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), callbackCapturer.capture(), notNull());
+        ModbusReadCallback readCallback = callbackCapturer.getValue();
+        assertNotNull(readCallback);
+
+        ModbusPollerThingHandler thingHandler = (ModbusPollerThingHandler) poller.getHandler();
+        assertNotNull(thingHandler);
+
+        // child reading register 5, and child reading registers 6 and 7
+        List<Boolean> unchanged = new ArrayList<>();
+        ModbusDataThingHandler child = Mockito.mock(ModbusDataThingHandler.class);
+        doAnswer(invocation -> {
+            unchanged.add(thingHandler.isPolledDataUnchanged(0, 1));
+            unchanged.add(thingHandler.isPolledDataUnchanged(1, 2));
+            return null;
+        }).when(child).onReadResult(any());
+        thingHandler.childHandlerInitialized(child, Mockito.mock(Thing.class));
+
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        readCallback.handle(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3)));
+        readCallback.handle(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 4)));
+        readCallback.handle(new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 4)));
+
+        // first poll is always processed completely
+        assertThat(unchanged, is(equalTo(List.of(false, false, true, false, true, true))));
+        // data is only reported unchanged while poll results are delivered
+        assertFalse(thingHandler.isPolledDataUnchanged(0, 1));
+    }
+
     @Test
     public void testBitsPassedToChildDataThings()
             throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {